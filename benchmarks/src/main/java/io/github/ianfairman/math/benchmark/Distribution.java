@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import java.util.Random;
+
+/**
+ * Shapes of input data the benchmarks are run against.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public enum Distribution {
+
+    SORTED {
+        @Override
+        double next(Random random, int index, int size) {
+            return index;
+        }
+    },
+    RANDOM {
+        @Override
+        double next(Random random, int index, int size) {
+            return random.nextGaussian();
+        }
+    },
+    HEAVY_DUPLICATE {
+        @Override
+        double next(Random random, int index, int size) {
+            return random.nextInt(8);
+        }
+    },
+    NAN_CONTAINING {
+        @Override
+        double next(Random random, int index, int size) {
+            return random.nextInt(100) == 0 ? Double.NaN : random.nextGaussian();
+        }
+    };
+
+    private static final long SEED = 20_250_101L;
+
+    abstract double next(Random random, int index, int size);
+
+    public double[] generate(int size) {
+        var random = new Random(SEED);
+        var result = new double[size];
+        for (var i = 0; i < size; ++i) {
+            result[i] = next(random, i, size);
+        }
+        return result;
+    }
+
+    public double[][] generate(int numberOfRows, int numberOfColumns) {
+        var random = new Random(SEED);
+        var result = new double[numberOfRows][numberOfColumns];
+        for (var row = 0; row < numberOfRows; ++row) {
+            for (var column = 0; column < numberOfColumns; ++column) {
+                var index = row * numberOfColumns + column;
+                result[row][column] = next(random, index, numberOfRows * numberOfColumns);
+            }
+        }
+        return result;
+    }
+}
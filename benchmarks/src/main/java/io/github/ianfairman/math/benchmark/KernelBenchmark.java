@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import io.github.ianfairman.math.Statistic;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The element-wise and reduction kernels, run by {@link ScalarKernelBenchmark}
+ * and {@link VectorKernelBenchmark} in JVMs configured for each
+ * implementation so the two can be compared.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class KernelBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private double[] data;
+
+    @Setup
+    public void setUp() {
+        data = Distribution.RANDOM.generate(size);
+    }
+
+    @Benchmark
+    public double sum() {
+        return Statistic.sum(data);
+    }
+
+    @Benchmark
+    public double[] square() {
+        return Statistic.square(data);
+    }
+
+    @Benchmark
+    public double[] deviation() {
+        return Statistic.deviation(data);
+    }
+
+    @Benchmark
+    public double[] subtractFromAll() {
+        return Statistic.subtractFromAll(data, 1D);
+    }
+
+    @Benchmark
+    public double populationVariance() {
+        return Statistic.populationVariance(data);
+    }
+}
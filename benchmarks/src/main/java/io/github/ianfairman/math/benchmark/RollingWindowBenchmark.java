@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import io.github.ianfairman.math.RollingWindow;
+import io.github.ianfairman.math.Statistic;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rolling statistics compared with recomputing each window from scratch.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class RollingWindowBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"16", "256", "4096"})
+    private int window;
+
+    @Param({"RANDOM", "HEAVY_DUPLICATE"})
+    private Distribution distribution;
+
+    private double[] data;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+    }
+
+    @Benchmark
+    public double[] rollingMeans() {
+        return RollingWindow.arithmeticMeans(data, window);
+    }
+
+    @Benchmark
+    public double[] rollingSampleVariances() {
+        return RollingWindow.sampleVariances(data, window);
+    }
+
+    @Benchmark
+    public double[] rollingMedians() {
+        return RollingWindow.medians(data, window);
+    }
+
+    @Benchmark
+    public double[] recomputedMedians() {
+        var result = new double[size - window + 1];
+        var scratch = new double[window];
+        for (var i = 0; i < result.length; ++i) {
+            result[i] = Statistic.median(data, i, window, scratch);
+        }
+        return result;
+    }
+}
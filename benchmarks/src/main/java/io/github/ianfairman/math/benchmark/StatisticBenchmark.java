@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import io.github.ianfairman.math.QuantileSketch;
+import io.github.ianfairman.math.RunningStatistic;
+import io.github.ianfairman.math.Statistic;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class StatisticBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param
+    private Distribution distribution;
+
+    private double[] data;
+    private double[] scratch;
+
+    @Setup
+    public void setUp() {
+        data = distribution.generate(size);
+        scratch = new double[size];
+    }
+
+    @Benchmark
+    public double sum() {
+        return Statistic.sum(data);
+    }
+
+    @Benchmark
+    public double arithmeticMean() {
+        return Statistic.arithmeticMean(data);
+    }
+
+    @Benchmark
+    public double[] deviation() {
+        return Statistic.deviation(data);
+    }
+
+    @Benchmark
+    public double[] square() {
+        return Statistic.square(data);
+    }
+
+    @Benchmark
+    public double[] subtractFromAll() {
+        return Statistic.subtractFromAll(data, 1D);
+    }
+
+    @Benchmark
+    public double populationVariance() {
+        return Statistic.populationVariance(data);
+    }
+
+    @Benchmark
+    public double populationStandardDeviation() {
+        return Statistic.populationStandardDeviation(data);
+    }
+
+    @Benchmark
+    public double sampleVariance() {
+        return Statistic.sampleVariance(data);
+    }
+
+    @Benchmark
+    public double sampleStandardDeviation() {
+        return Statistic.sampleStandardDeviation(data);
+    }
+
+    @Benchmark
+    public double median() {
+        return Statistic.median(data);
+    }
+
+    @Benchmark
+    public double medianWithScratch() {
+        return Statistic.median(data, scratch);
+    }
+
+    @Benchmark
+    public double quantile() {
+        return Statistic.quantile(data, 0.9D);
+    }
+
+    @Benchmark
+    public double[] quantiles() {
+        return Statistic.quantiles(data, 0.1D, 0.25D, 0.5D, 0.75D, 0.9D);
+    }
+
+    @Benchmark
+    public double percentile() {
+        return Statistic.percentile(data, 99D);
+    }
+
+    @Benchmark
+    public double parallelSum() {
+        return Statistic.parallelSum(data);
+    }
+
+    @Benchmark
+    public double parallelArithmeticMean() {
+        return Statistic.parallelArithmeticMean(data);
+    }
+
+    @Benchmark
+    public double parallelPopulationVariance() {
+        return Statistic.parallelPopulationVariance(data);
+    }
+
+    @Benchmark
+    public double parallelSampleVariance() {
+        return Statistic.parallelSampleVariance(data);
+    }
+
+    @Benchmark
+    public double runningStatistic() {
+        var statistic = new RunningStatistic();
+        for (var value : data) {
+            statistic.accept(value);
+        }
+        return statistic.sampleVariance();
+    }
+
+    @Benchmark
+    public double quantileSketch() {
+        var sketch = new QuantileSketch();
+        for (var value : data) {
+            sketch.accept(value);
+        }
+        return sketch.median();
+    }
+}
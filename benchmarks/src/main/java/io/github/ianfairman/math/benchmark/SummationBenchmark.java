@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import io.github.ianfairman.math.Statistic;
+import io.github.ianfairman.math.Summation;
+import java.math.BigDecimal;
+import static java.math.MathContext.DECIMAL128;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of each summation strategy, reported alongside the relative
+ * error of the benchmarked result against the exact result for the same
+ * data, so that the speed can be read against the accuracy it buys.
+ * CANCELLING data is small values between a huge positive and a huge
+ * negative value, which makes the sum ill-conditioned. OFFSET data is small
+ * deviations about a large common offset, which makes the variance
+ * ill-conditioned.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SummationBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"KERNEL", "NAIVE", "NEUMAIER", "PAIRWISE", "BLOCKED"})
+    private String summation;
+
+    @Param({"CANCELLING", "OFFSET"})
+    private String data;
+
+    private double[] values;
+    private Summation strategy;
+    private double sumError;
+    private double populationVarianceError;
+
+    /**
+     * The relative error of the result, reported by JMH as a secondary
+     * result of each benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Accuracy {
+
+        public double relativeError;
+    }
+
+    @Setup
+    public void setUp() {
+        var random = new Random(20_250_101L);
+        values = new double[size];
+        for (var i = 0; i < size; ++i) {
+            values[i] = data.equals("OFFSET") ? 1E8 + random.nextGaussian() : random.nextDouble();
+        }
+        if (data.equals("CANCELLING")) {
+            values[0] = 1E16;
+            values[size - 1] = -1E16;
+        }
+        strategy = summation.equals("KERNEL") ? null : Summation.valueOf(summation);
+        var exactSum = BigDecimal.ZERO;
+        for (var value : values) {
+            exactSum = exactSum.add(new BigDecimal(value));
+        }
+        var exactMean = exactSum.divide(BigDecimal.valueOf(size), DECIMAL128);
+        var exactSumOfSquares = BigDecimal.ZERO;
+        for (var value : values) {
+            var deviation = new BigDecimal(value).subtract(exactMean);
+            exactSumOfSquares = exactSumOfSquares.add(deviation.multiply(deviation));
+        }
+        var exactPopulationVariance = exactSumOfSquares.divide(BigDecimal.valueOf(size), DECIMAL128);
+        sumError = relativeError(computeSum(), exactSum);
+        populationVarianceError = relativeError(computePopulationVariance(), exactPopulationVariance);
+    }
+
+    private static double relativeError(double result, BigDecimal exact) {
+        return new BigDecimal(result).subtract(exact).abs().divide(exact.abs(), DECIMAL128).doubleValue();
+    }
+
+    private double computeSum() {
+        return strategy == null ? Statistic.sum(values) : Statistic.sum(values, strategy);
+    }
+
+    private double computePopulationVariance() {
+        return strategy == null
+                ? Statistic.populationVariance(values)
+                : Statistic.populationVariance(values, strategy);
+    }
+
+    @Benchmark
+    public double sum(Accuracy accuracy) {
+        accuracy.relativeError = sumError;
+        return computeSum();
+    }
+
+    @Benchmark
+    public double populationVariance(Accuracy accuracy) {
+        accuracy.relativeError = populationVarianceError;
+        return computePopulationVariance();
+    }
+}
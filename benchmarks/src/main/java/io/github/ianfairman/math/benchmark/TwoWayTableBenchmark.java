@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math.benchmark;
+
+import io.github.ianfairman.math.MedianPolish;
+import io.github.ianfairman.math.RunningStatistic;
+import io.github.ianfairman.math.TwoWayTable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class TwoWayTableBenchmark {
+
+    @Param({"10x100000", "1000x1000", "100000x10"})
+    private String shape;
+
+    @Param
+    private Distribution distribution;
+
+    @Param({"JAGGED", "ROW_MAJOR", "COLUMN_MAJOR", "IMMUTABLE"})
+    private String layout;
+
+    private TwoWayTable table;
+    private TwoWayTable copy;
+    private int middleRow;
+    private int middleColumn;
+
+    @Setup
+    public void setUp() {
+        var dimensions = shape.split("x");
+        var numberOfRows = Integer.parseInt(dimensions[0]);
+        var numberOfColumns = Integer.parseInt(dimensions[1]);
+        table = create(distribution.generate(numberOfRows, numberOfColumns));
+        copy = create(distribution.generate(numberOfRows, numberOfColumns));
+        middleRow = numberOfRows / 2;
+        middleColumn = numberOfColumns / 2;
+    }
+
+    private TwoWayTable create(double[][] array) {
+        if (layout.equals("JAGGED")) {
+            return new TwoWayTable(array);
+        }
+        if (layout.equals("IMMUTABLE")) {
+            return TwoWayTable.copyOf(array);
+        }
+        return new TwoWayTable(array, TwoWayTable.Layout.valueOf(layout));
+    }
+
+    @Benchmark
+    public double[] row() {
+        return table.row(middleRow);
+    }
+
+    @Benchmark
+    public double[] column() {
+        return table.column(middleColumn);
+    }
+
+    @Benchmark
+    public double medianOfRow() {
+        return table.medianOfRow(middleRow);
+    }
+
+    @Benchmark
+    public double medianOfColumn() {
+        return table.medianOfColumn(middleColumn);
+    }
+
+    @Benchmark
+    public double[] mediansOfRows() {
+        return table.mediansOfRows();
+    }
+
+    @Benchmark
+    public double[] mediansOfColumns() {
+        return table.mediansOfColumns();
+    }
+
+    @Benchmark
+    public double[] parallelMediansOfRows() {
+        return table.parallelMediansOfRows();
+    }
+
+    @Benchmark
+    public double[] parallelMediansOfColumns() {
+        return table.parallelMediansOfColumns();
+    }
+
+    @Benchmark
+    public MedianPolish medianPolish() {
+        return table.medianPolish();
+    }
+
+    @Benchmark
+    public RunningStatistic[] summaryOfRows() {
+        return table.summaryOfRows();
+    }
+
+    @Benchmark
+    public RunningStatistic[] summaryOfColumns() {
+        return table.summaryOfColumns();
+    }
+
+    @Benchmark
+    public double get() {
+        return table.get(middleRow, middleColumn);
+    }
+
+    @Benchmark
+    public int hashCodeOfTable() {
+        return table.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsCopy() {
+        return table.equals(copy);
+    }
+}
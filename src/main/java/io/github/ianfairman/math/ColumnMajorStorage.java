@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * Storage holding every cell in one array, column after column.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class ColumnMajorStorage implements TableStorage {
+
+    private final double[] data;
+    private final int numberOfRows;
+    private final int numberOfColumns;
+
+    ColumnMajorStorage(double[] data, int numberOfRows, int numberOfColumns) {
+        this.data = data;
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    static ColumnMajorStorage copyOf(double[][] array) {
+        var numberOfRows = array.length;
+        var numberOfColumns = array[0].length;
+        var data = new double[TableStorage.size(numberOfRows, numberOfColumns)];
+        for (var row = 0; row < numberOfRows; ++row) {
+            var values = array[row];
+            for (int column = 0, index = row; column < numberOfColumns; ++column, index += numberOfRows) {
+                data[index] = values[column];
+            }
+        }
+        return new ColumnMajorStorage(data, numberOfRows, numberOfColumns);
+    }
+
+    double[] data() {
+        return data;
+    }
+
+    @Override
+    public int numberOfRows() {
+        return numberOfRows;
+    }
+
+    @Override
+    public int numberOfColumns() {
+        return numberOfColumns;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return data[column * numberOfRows + row];
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination, int offset) {
+        for (int column = 0, index = row; column < numberOfColumns; ++column, index += numberOfRows) {
+            destination[offset + column] = data[index];
+        }
+    }
+
+    @Override
+    public void copyColumn(int column, double[] destination, int offset) {
+        arraycopy(data, column * numberOfRows, destination, offset, numberOfRows);
+    }
+
+    @Override
+    public void copyColumns(int fromColumn, int toColumn, double[] destination) {
+        arraycopy(data, fromColumn * numberOfRows, destination, 0, (toColumn - fromColumn) * numberOfRows);
+    }
+}
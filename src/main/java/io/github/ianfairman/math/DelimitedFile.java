@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.copyOf;
+
+/**
+ * Reads delimited text, such as CSV or TSV, of numbers into row-major storage
+ * in one pass. The file is read through a fixed buffer and each field is
+ * parsed straight from its bytes, so the only allocations are the growing
+ * cell array itself. Records end with a line feed, optionally preceded by a
+ * carriage return; blank lines are skipped. Spaces and double quotes around a
+ * field are ignored and an empty field is read as NaN. Every record must have
+ * as many fields as the first, which is checked as each record ends.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class DelimitedFile {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int MAXIMUM_CELLS = Integer.MAX_VALUE - 8;
+
+    private final Path file;
+    private final byte delimiter;
+    private byte[] field = new byte[64];
+    private int fieldLength;
+    private double[] data = new double[INITIAL_CAPACITY];
+    private int numberOfCells;
+    private int numberOfRows;
+    private int numberOfColumns = -1;
+    private int fieldsInRecord;
+    private long line = 1;
+
+    private DelimitedFile(Path file, byte delimiter) {
+        this.file = file;
+        this.delimiter = delimiter;
+    }
+
+    static RowMajorStorage read(Path file, char delimiter, int headerLines) throws IOException {
+        if (delimiter > 0x7F || delimiter == '\n' || delimiter == '\r' || delimiter == '"' || headerLines < 0) {
+            throw new IllegalArgumentException();
+        }
+        return new DelimitedFile(file, (byte) delimiter).read(headerLines);
+    }
+
+    private RowMajorStorage read(int headerLines) throws IOException {
+        try (var channel = FileChannel.open(file, READ)) {
+            var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            var skipping = headerLines > 0;
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    var b = buffer.get();
+                    if (skipping) {
+                        if (b == '\n' && ++line > headerLines) {
+                            skipping = false;
+                        }
+                    } else if (b == delimiter) {
+                        endField();
+                    } else if (b == '\n') {
+                        endRecord();
+                        ++line;
+                    } else if (b != '\r') {
+                        appendToField(b);
+                    }
+                }
+                buffer.clear();
+            }
+            endRecord();
+        }
+        if (numberOfRows == 0) {
+            throw new IOException("No records in " + file);
+        }
+        return new RowMajorStorage(copyOf(data, numberOfCells), numberOfRows, numberOfColumns);
+    }
+
+    private void appendToField(byte b) {
+        if (fieldLength == field.length) {
+            field = copyOf(field, 2 * field.length);
+        }
+        field[fieldLength++] = b;
+    }
+
+    private void endField() throws IOException {
+        var from = 0;
+        var to = fieldLength;
+        while (from < to && (field[from] == ' ' || field[from] == '"')) {
+            ++from;
+        }
+        while (to > from && (field[to - 1] == ' ' || field[to - 1] == '"')) {
+            --to;
+        }
+        double value;
+        try {
+            value = from == to ? Double.NaN : DoubleParser.parse(field, from, to - from);
+        } catch (NumberFormatException e) {
+            throw new IOException("Not a number at line " + line + " of " + file, e);
+        }
+        if (numberOfCells == data.length) {
+            if (data.length == MAXIMUM_CELLS) {
+                throw new IOException("Too many cells in " + file);
+            }
+            data = copyOf(data, (int) Math.min((long) data.length + (data.length >> 1), MAXIMUM_CELLS));
+        }
+        data[numberOfCells++] = value;
+        fieldLength = 0;
+        ++fieldsInRecord;
+    }
+
+    private void endRecord() throws IOException {
+        if (fieldsInRecord == 0 && fieldLength == 0) {
+            return;
+        }
+        endField();
+        if (numberOfColumns < 0) {
+            numberOfColumns = fieldsInRecord;
+        } else if (fieldsInRecord != numberOfColumns) {
+            throw new IOException("Expected " + numberOfColumns + " fields but found " + fieldsInRecord
+                    + " at line " + line + " of " + file);
+        }
+        ++numberOfRows;
+        fieldsInRecord = 0;
+    }
+}
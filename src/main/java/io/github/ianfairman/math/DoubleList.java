@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A growable array of unboxed doubles, used as the mutable container when
+ * collecting streams for order statistics.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class DoubleList implements DoubleConsumer {
+
+    private static final int MAXIMUM_SIZE = Integer.MAX_VALUE - 8;
+
+    private double[] data = new double[16];
+    private int size;
+
+    @Override
+    public void accept(double value) {
+        ensureCapacity(size + 1L);
+        data[size++] = value;
+    }
+
+    DoubleList addAll(DoubleList other) {
+        ensureCapacity((long) size + other.size);
+        arraycopy(other.data, 0, data, size, other.size);
+        size += other.size;
+        return this;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the backing array, of which the first {@link #size} values are
+     * in use. Callers may reorder those values.
+     */
+    double[] data() {
+        return data;
+    }
+
+    private void ensureCapacity(long capacity) {
+        if (capacity > MAXIMUM_SIZE) {
+            throw new OutOfMemoryError();
+        }
+        if (capacity > data.length) {
+            data = copyOf(data, (int) Math.min(Math.max(capacity, 2L * data.length), MAXIMUM_SIZE));
+        }
+    }
+}
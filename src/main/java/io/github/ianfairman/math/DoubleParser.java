@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+/**
+ * Parses decimal numbers from ASCII bytes without allocating. Numbers whose
+ * significand fits in 53 bits and whose decimal exponent is at most 22 in
+ * magnitude are converted with a single correctly rounded multiplication or
+ * division (Clinger's fast path). Anything else, including NaN, infinities and
+ * malformed input, goes to {@link Double#parseDouble}, so the results always
+ * agree with it.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class DoubleParser {
+
+    private static final long MAXIMUM_EXACT_SIGNIFICAND = 1L << 53;
+    private static final int MAXIMUM_SIGNIFICANT_DIGITS = 18;
+    private static final double[] POWERS_OF_TEN = {
+        1E0, 1E1, 1E2, 1E3, 1E4, 1E5, 1E6, 1E7, 1E8, 1E9, 1E10,
+        1E11, 1E12, 1E13, 1E14, 1E15, 1E16, 1E17, 1E18, 1E19, 1E20, 1E21, 1E22
+    };
+
+    private DoubleParser() {}
+
+    static double parse(byte[] bytes, int offset, int length) throws NumberFormatException {
+        var end = offset + length;
+        var i = offset;
+        var negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i++] == '-';
+        }
+        var significand = 0L;
+        var digits = 0;
+        var exponent = 0;
+        var anyDigits = false;
+        var exact = true;
+        while (i < end && isDigit(bytes[i])) {
+            anyDigits = true;
+            if (digits < MAXIMUM_SIGNIFICANT_DIGITS) {
+                significand = 10 * significand + (bytes[i] - '0');
+                if (significand != 0) {
+                    ++digits;
+                }
+            } else {
+                exact &= bytes[i] == '0';
+                ++exponent;
+            }
+            ++i;
+        }
+        if (i < end && bytes[i] == '.') {
+            ++i;
+            while (i < end && isDigit(bytes[i])) {
+                anyDigits = true;
+                if (digits < MAXIMUM_SIGNIFICANT_DIGITS) {
+                    significand = 10 * significand + (bytes[i] - '0');
+                    if (significand != 0) {
+                        ++digits;
+                    }
+                    --exponent;
+                } else {
+                    exact &= bytes[i] == '0';
+                }
+                ++i;
+            }
+        }
+        if (anyDigits && i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            ++i;
+            var negativeExponent = false;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i++] == '-';
+            }
+            var explicitExponent = 0;
+            var exponentDigits = false;
+            while (i < end && isDigit(bytes[i])) {
+                exponentDigits = true;
+                explicitExponent = Math.min(10 * explicitExponent + (bytes[i] - '0'), 100_000);
+                ++i;
+            }
+            anyDigits = exponentDigits;
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (!anyDigits || i != end || !exact
+                || significand >= MAXIMUM_EXACT_SIGNIFICAND
+                || exponent < -22 || exponent > 22) {
+            return slowParse(bytes, offset, length);
+        }
+        var value = exponent < 0
+                ? significand / POWERS_OF_TEN[-exponent]
+                : significand * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static double slowParse(byte[] bytes, int offset, int length) throws NumberFormatException {
+        return Double.parseDouble(new String(bytes, offset, length, ISO_8859_1));
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
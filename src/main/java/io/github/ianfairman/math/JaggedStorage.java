@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * Storage over a caller-supplied array of rows, which is not copied.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class JaggedStorage implements TableStorage {
+
+    private final double[][] array;
+
+    JaggedStorage(double[][] array) {
+        this.array = array;
+    }
+
+    double[][] array() {
+        return array;
+    }
+
+    @Override
+    public int numberOfRows() {
+        return array.length;
+    }
+
+    @Override
+    public int numberOfColumns() {
+        return array[0].length;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return array[row][column];
+    }
+
+    @Override
+    public double[] row(int row) {
+        return array[row];
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination, int offset) {
+        arraycopy(array[row], 0, destination, offset, array[row].length);
+    }
+
+    @Override
+    public void copyColumn(int column, double[] destination, int offset) {
+        for (var row = 0; row < array.length; ++row) {
+            destination[offset + row] = array[row][column];
+        }
+    }
+
+    @Override
+    public void copyColumns(int fromColumn, int toColumn, double[] destination) {
+        var numberOfRows = array.length;
+        for (var rowTile = 0; rowTile < numberOfRows; rowTile += TILE) {
+            var rowEnd = Math.min(rowTile + TILE, numberOfRows);
+            for (var columnTile = fromColumn; columnTile < toColumn; columnTile += TILE) {
+                var columnEnd = Math.min(columnTile + TILE, toColumn);
+                for (var row = rowTile; row < rowEnd; ++row) {
+                    var values = array[row];
+                    for (var column = columnTile; column < columnEnd; ++column) {
+                        destination[(column - fromColumn) * numberOfRows + row] = values[column];
+                    }
+                }
+            }
+        }
+    }
+}
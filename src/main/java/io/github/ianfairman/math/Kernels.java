@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ * Element-wise and reduction loops shared by the statistics. The vector
+ * implementation is used when the {@code jdk.incubator.vector} module is
+ * present, unless the {@value #PROPERTY} system property is {@code scalar}.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+interface Kernels {
+
+    String PROPERTY = "io.github.ianfairman.math.kernels";
+
+    Kernels KERNELS = load();
+
+    double sum(double[] data, int offset, int length);
+
+    double sumOfDeviations(double[] data, int offset, int length, double mean);
+
+    /**
+     * Returns the sum of squared deviations from {@code mean}, less the
+     * correction term that compensates for rounding error in the mean.
+     */
+    double sumOfSquaredDeviations(double[] data, int offset, int length, double mean);
+
+    int countOfNaN(double[] data, int offset, int length);
+
+    double sumOfNonNaN(double[] data, int offset, int length);
+
+    /**
+     * Returns the corrected sum of squared deviations from {@code mean} of
+     * the values that are not NaN, of which there are {@code count}.
+     */
+    double sumOfSquaredDeviationsOfNonNaN(double[] data, int offset, int length, double mean, int count);
+
+    void subtract(double[] source, int sourceOffset, double constant, double[] destination, int destinationOffset, int length);
+
+    void square(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length);
+
+    void squaredDeviation(double[] source, int sourceOffset, double mean, double[] destination, int destinationOffset, int length);
+
+    private static Kernels load() {
+        if (!"scalar".equals(System.getProperty(PROPERTY))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (Kernels) Class.forName("io.github.ianfairman.math.VectorKernels")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError _) {
+                // Fall through to the scalar loops.
+            }
+        }
+        return new ScalarKernels();
+    }
+}
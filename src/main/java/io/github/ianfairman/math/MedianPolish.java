@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.Math.abs;
+import static java.lang.System.arraycopy;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Result of Tukey's median polish of a {@link TwoWayTable}: the fit
+ * {@code overall + rowEffects[i] + columnEffects[j] + residuals(i, j)}.
+ * Medians treat NaNs as the given {@link NaNPolicy} says. Under
+ * {@link NaNPolicy#PROPAGATE} a NaN cell makes the whole fit NaN and the
+ * polish stops unconverged. Under {@link NaNPolicy#SKIP} NaN cells are left
+ * out of every median and of the convergence test and keep NaN residuals,
+ * as with R's {@code medpolish(x, na.rm = TRUE)}.
+ * <p>
+ * The effects are copied on the way in and out, so a result cannot be
+ * changed through them, and compared by content.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public record MedianPolish(
+        double overall,
+        double[] rowEffects,
+        double[] columnEffects,
+        TwoWayTable residuals,
+        int iterations,
+        boolean converged) {
+
+    public static final int DEFAULT_MAXIMUM_ITERATIONS = 10;
+    public static final double DEFAULT_TOLERANCE = 0.01D;
+
+    public MedianPolish {
+        rowEffects = rowEffects.clone();
+        columnEffects = columnEffects.clone();
+        Objects.requireNonNull(residuals);
+    }
+
+    @Override
+    public double[] rowEffects() {
+        return rowEffects.clone();
+    }
+
+    @Override
+    public double[] columnEffects() {
+        return columnEffects.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof MedianPolish that
+                && Double.compare(overall, that.overall) == 0
+                && Arrays.equals(rowEffects, that.rowEffects)
+                && Arrays.equals(columnEffects, that.columnEffects)
+                && residuals.equals(that.residuals)
+                && iterations == that.iterations
+                && converged == that.converged;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(overall, Arrays.hashCode(rowEffects), Arrays.hashCode(columnEffects),
+                residuals, iterations, converged);
+    }
+
+    @Override
+    public String toString() {
+        return "MedianPolish[overall=" + overall
+                + ", rowEffects=" + Arrays.toString(rowEffects)
+                + ", columnEffects=" + Arrays.toString(columnEffects)
+                + ", residuals=" + residuals
+                + ", iterations=" + iterations
+                + ", converged=" + converged + "]";
+    }
+
+    /*
+     * Sweeps in place over a row-major working copy, as R's medpolish does,
+     * reusing one scratch buffer for every median.
+     */
+    static MedianPolish of(TableStorage storage, int maximumIterations, double tolerance, NaNPolicy policy) {
+        if (maximumIterations < 1 || !(tolerance >= 0D)) {
+            throw new IllegalArgumentException();
+        }
+        var numberOfRows = storage.numberOfRows();
+        var numberOfColumns = storage.numberOfColumns();
+        var residuals = new double[TableStorage.size(numberOfRows, numberOfColumns)];
+        for (var row = 0; row < numberOfRows; ++row) {
+            storage.copyRow(row, residuals, row * numberOfColumns);
+        }
+        var rowEffects = new double[numberOfRows];
+        var columnEffects = new double[numberOfColumns];
+        var scratch = new double[Math.max(numberOfRows, numberOfColumns)];
+        var overall = 0D;
+        var previousSum = 0D;
+        var converged = false;
+        var iteration = 0;
+        while (!converged && iteration < maximumIterations) {
+            ++iteration;
+            for (var row = 0; row < numberOfRows; ++row) {
+                var offset = row * numberOfColumns;
+                arraycopy(residuals, offset, scratch, 0, numberOfColumns);
+                var delta = Selection.medianInPlace(scratch, 0, numberOfColumns, policy);
+                for (var i = offset; i < offset + numberOfColumns; ++i) {
+                    residuals[i] -= delta;
+                }
+                rowEffects[row] += delta;
+            }
+            overall += centre(columnEffects, scratch, policy);
+            for (var column = 0; column < numberOfColumns; ++column) {
+                for (int row = 0, i = column; row < numberOfRows; ++row, i += numberOfColumns) {
+                    scratch[row] = residuals[i];
+                }
+                var delta = Selection.medianInPlace(scratch, 0, numberOfRows, policy);
+                for (var i = column; i < residuals.length; i += numberOfColumns) {
+                    residuals[i] -= delta;
+                }
+                columnEffects[column] += delta;
+            }
+            overall += centre(rowEffects, scratch, policy);
+            var sum = 0D;
+            for (var residual : residuals) {
+                if (residual == residual || policy != NaNPolicy.SKIP) {
+                    sum += abs(residual);
+                }
+            }
+            if (sum != sum) {
+                // A propagated NaN is in every effect; no sweep can change that.
+                break;
+            }
+            converged = sum == 0D || abs(sum - previousSum) < tolerance * sum;
+            previousSum = sum;
+        }
+        var table = TwoWayTable.over(new RowMajorStorage(residuals, numberOfRows, numberOfColumns));
+        return new MedianPolish(overall, rowEffects, columnEffects, table, iteration, converged);
+    }
+
+    /*
+     * Subtracts the median of the effects from each of them and returns it.
+     */
+    private static double centre(double[] effects, double[] scratch, NaNPolicy policy) {
+        arraycopy(effects, 0, scratch, 0, effects.length);
+        var median = Selection.medianInPlace(scratch, 0, effects.length, policy);
+        for (var i = 0; i < effects.length; ++i) {
+            effects[i] -= median;
+        }
+        return median;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.Math.max;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join computation of the medians of a range of rows or columns. Each
+ * leaf allocates one scratch buffer and reuses it for every row it handles,
+ * or transposes all of its columns into one buffer.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@SuppressWarnings("serial")
+class MedianTask extends RecursiveAction {
+
+    private static final int LEAF_CELLS = 1 << 14;
+
+    private final TwoWayTable table;
+    private final boolean rows;
+    private final NaNPolicy policy;
+    private final double[] medians;
+    private final int from;
+    private final int to;
+
+    MedianTask(TwoWayTable table, boolean rows, NaNPolicy policy, double[] medians, int from, int to) {
+        this.table = table;
+        this.rows = rows;
+        this.policy = policy;
+        this.medians = medians;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        var lineLength = rows ? table.numberOfColumns() : table.numberOfRows();
+        if (to - from <= max(1, LEAF_CELLS / lineLength)) {
+            if (rows) {
+                var scratch = new double[lineLength];
+                for (var i = from; i < to; ++i) {
+                    medians[i] = table.medianOfRow(i, scratch, policy);
+                }
+            } else {
+                var buffer = new double[(to - from) * lineLength];
+                table.reduceColumns(
+                        (data, offset, length) -> Selection.medianInPlace(data, offset, length, policy),
+                        from, to, medians, buffer);
+            }
+            return;
+        }
+        var middle = (from + to) >>> 1;
+        invokeAll(new MedianTask(table, rows, policy, medians, from, middle),
+                new MedianTask(table, rows, policy, medians, middle, to));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ * What a statistic does with NaNs among its input. Infinities are ordinary
+ * values under every policy; a NaN that arises from them, such as the sum of
+ * opposite infinities, is a result rather than a missing value.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public enum NaNPolicy {
+
+    /**
+     * Any NaN in the input makes the result NaN. This is the default.
+     */
+    PROPAGATE,
+
+    /**
+     * NaNs are left out, as if the input did not contain them.
+     */
+    SKIP,
+
+    /**
+     * Any NaN in the input is rejected with an
+     * {@link IllegalArgumentException}.
+     */
+    FAIL;
+
+    /**
+     * Returns how many of {@code length} values, of which {@code count} are
+     * not NaN, a statistic should cover, or -1 if its result is NaN.
+     */
+    int lengthToUse(int length, int count) throws IllegalArgumentException {
+        if (count == length) {
+            return length;
+        }
+        return switch (this) {
+            case PROPAGATE -> -1;
+            case SKIP -> count;
+            case FAIL -> throw new IllegalArgumentException();
+        };
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+import static java.util.Objects.requireNonNull;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Approximate quantiles of a stream in bounded memory, using a KLL sketch.
+ * The accuracy parameter {@code k} bounds the memory to about {@code 3k}
+ * values. The normalised rank error of an answer averages about
+ * {@code 0.7/k} and rarely exceeds {@code 3/k}, so the default {@code k} of
+ * 200 places quantiles within about 1.5% of their true rank. The minimum and
+ * maximum are exact. NaNs are ignored.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class QuantileSketch implements DoubleConsumer {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MINIMUM_K = 8;
+    private static final int SERIAL_VERSION = 1;
+    private static final double CAPACITY_RATIO = 2D / 3D;
+
+    private final int k;
+    private long count;
+    private double minimum = Double.NaN;
+    private double maximum = Double.NaN;
+    private double[][] levels;
+    private int[] sizes;
+    private int[] capacities;
+    private long random;
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        if (k < MINIMUM_K) {
+            throw new IllegalArgumentException();
+        }
+        this.k = k;
+        this.levels = new double[][] {new double[k]};
+        this.sizes = new int[1];
+        this.capacities = capacities(k, 1);
+        this.random = 0x9E3779B97F4A7C15L;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void accept(double value) {
+        if (value != value) {
+            return;
+        }
+        if (count++ == 0) {
+            minimum = value;
+            maximum = value;
+        } else {
+            minimum = min(minimum, value);
+            maximum = max(maximum, value);
+        }
+        append(0, value);
+        sortedValues = null;
+        if (sizes[0] >= capacities[0]) {
+            compress();
+        }
+    }
+
+    public QuantileSketch merge(QuantileSketch other) {
+        requireNonNull(other);
+        if (other.k != k) {
+            throw new IllegalArgumentException();
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        // Appending never overwrites retained items, so a snapshot of the
+        // other sketch's compactors stays valid even when merging with itself.
+        var otherLevels = other.levels.clone();
+        var otherSizes = other.sizes.clone();
+        minimum = count == 0 ? other.minimum : min(minimum, other.minimum);
+        maximum = count == 0 ? other.maximum : max(maximum, other.maximum);
+        count += other.count;
+        for (var level = 0; level < otherLevels.length; ++level) {
+            for (var i = 0; i < otherSizes[level]; ++i) {
+                append(level, otherLevels[level][i]);
+            }
+        }
+        sortedValues = null;
+        compress();
+        return this;
+    }
+
+    public double median() {
+        return quantile(0.5D);
+    }
+
+    public double quantile(double p) {
+        if (!(p >= 0D && p <= 1D)) {
+            throw new IllegalArgumentException();
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (p == 0D) {
+            return minimum;
+        }
+        if (p == 1D) {
+            return maximum;
+        }
+        sortIfNecessary();
+        var target = p * (count - 1);
+        var low = 0;
+        var high = sortedValues.length - 1;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (cumulativeWeights[middle] > target) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return sortedValues[low];
+    }
+
+    public double[] quantiles(double... ps) {
+        var result = new double[ps.length];
+        for (var i = 0; i < ps.length; ++i) {
+            result[i] = quantile(ps[i]);
+        }
+        return result;
+    }
+
+    public byte[] toByteArray() {
+        var retained = 0;
+        for (var level = 0; level < levels.length; ++level) {
+            retained += sizes[level];
+        }
+        var buffer = ByteBuffer.allocate(
+                3 * Integer.BYTES + 2 * Long.BYTES + 2 * Double.BYTES
+                + levels.length * Integer.BYTES + retained * Double.BYTES);
+        buffer.putInt(SERIAL_VERSION)
+                .putInt(k)
+                .putLong(count)
+                .putLong(random)
+                .putDouble(minimum)
+                .putDouble(maximum)
+                .putInt(levels.length);
+        for (var level = 0; level < levels.length; ++level) {
+            buffer.putInt(sizes[level]);
+            for (var i = 0; i < sizes[level]; ++i) {
+                buffer.putDouble(levels[level][i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static QuantileSketch fromByteArray(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != SERIAL_VERSION) {
+                throw new IllegalArgumentException();
+            }
+            var sketch = new QuantileSketch(buffer.getInt());
+            sketch.count = buffer.getLong();
+            sketch.random = buffer.getLong();
+            sketch.minimum = buffer.getDouble();
+            sketch.maximum = buffer.getDouble();
+            var numberOfLevels = buffer.getInt();
+            if (numberOfLevels < 1) {
+                throw new IllegalArgumentException();
+            }
+            sketch.levels = new double[numberOfLevels][];
+            sketch.sizes = new int[numberOfLevels];
+            sketch.capacities = capacities(sketch.k, numberOfLevels);
+            for (var level = 0; level < numberOfLevels; ++level) {
+                var size = buffer.getInt();
+                if (size < 0 || size > buffer.remaining() / Double.BYTES) {
+                    throw new IllegalArgumentException();
+                }
+                sketch.levels[level] = new double[max(size, 2)];
+                sketch.sizes[level] = size;
+                for (var i = 0; i < size; ++i) {
+                    sketch.levels[level][i] = buffer.getDouble();
+                }
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static int[] capacities(int k, int numberOfLevels) {
+        var result = new int[numberOfLevels];
+        for (var level = 0; level < numberOfLevels; ++level) {
+            var depth = numberOfLevels - 1 - level;
+            result[level] = max(2, (int) ceil(k * pow(CAPACITY_RATIO, depth)));
+        }
+        return result;
+    }
+
+    private void append(int level, double value) {
+        if (level == levels.length) {
+            levels = copyOf(levels, level + 1);
+            levels[level] = new double[k];
+            sizes = copyOf(sizes, level + 1);
+            capacities = capacities(k, level + 1);
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = copyOf(levels[level], 2 * sizes[level]);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private void compress() {
+        for (var level = 0; level < levels.length; ++level) {
+            if (sizes[level] < capacities[level]) {
+                continue;
+            }
+            var items = levels[level];
+            var size = sizes[level];
+            sort(items, 0, size);
+            // An odd item out stays behind so that total weight is preserved.
+            var kept = size % 2;
+            var offset = kept + (nextRandomBit() ? 1 : 0);
+            for (var i = offset; i < size; i += 2) {
+                append(level + 1, items[i]);
+            }
+            sizes[level] = kept;
+        }
+    }
+
+    private boolean nextRandomBit() {
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        return (random & 1L) != 0;
+    }
+
+    private void sortIfNecessary() {
+        if (sortedValues != null) {
+            return;
+        }
+        var retained = 0;
+        for (var level = 0; level < levels.length; ++level) {
+            retained += sizes[level];
+        }
+        var values = new double[retained];
+        var weights = new long[retained];
+        var merged = 0;
+        for (var level = 0; level < levels.length; ++level) {
+            var size = sizes[level];
+            var items = copyOf(levels[level], size);
+            sort(items);
+            mergeInto(values, weights, merged, items, 1L << level);
+            merged += size;
+        }
+        var total = 0L;
+        for (var i = 0; i < retained; ++i) {
+            total += weights[i];
+            weights[i] = total;
+        }
+        sortedValues = values;
+        cumulativeWeights = weights;
+    }
+
+    private static void mergeInto(double[] values, long[] weights, int length, double[] items, long weight) {
+        var i = length - 1;
+        var j = items.length - 1;
+        var destination = length + items.length - 1;
+        while (j >= 0) {
+            if (i >= 0 && values[i] > items[j]) {
+                values[destination] = values[i];
+                weights[destination--] = weights[i--];
+            } else {
+                values[destination] = items[j--];
+                weights[destination--] = weight;
+            }
+        }
+    }
+}
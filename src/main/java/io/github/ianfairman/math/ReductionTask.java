@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join reduction of an array range to a {@link RunningStatistic}. Leaves
+ * use the two-pass block kernel and partial results are merged pairwise.
+ * Merging is not associative in floating point, so results depend on the
+ * leaf size and can differ from the sequential result in the last bits.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@SuppressWarnings("serial")
+class ReductionTask extends RecursiveTask<RunningStatistic> {
+
+    static final int LEAF_SIZE = 1 << 14;
+
+    private final double[] data;
+    private final int from;
+    private final int to;
+
+    ReductionTask(double[] data, int from, int to) {
+        this.data = data;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected RunningStatistic compute() {
+        if (to - from <= LEAF_SIZE) {
+            var result = new RunningStatistic();
+            result.accept(data, from, to - from);
+            return result;
+        }
+        var middle = (from + to) >>> 1;
+        var left = new ReductionTask(data, from, middle);
+        left.fork();
+        var right = new ReductionTask(data, middle, to).compute();
+        return left.join().combine(right);
+    }
+}
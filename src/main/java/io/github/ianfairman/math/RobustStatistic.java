@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.Kernels.KERNELS;
+import static java.lang.Math.abs;
+import static java.lang.Math.floor;
+import static java.util.Arrays.sort;
+import static java.util.Objects.checkFromIndexSize;
+
+/**
+ * Estimators of location and scale that resist outliers. Each copies its
+ * input once, into a scratch buffer that callers may supply and reuse, and
+ * works there by selection rather than sorting, except for the
+ * Hodges-Lehmann estimator, which sorts once. As with {@link Statistic}, a
+ * NaN in the input makes the result NaN.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public final class RobustStatistic {
+
+    /**
+     * Scales the median absolute deviation to estimate the standard deviation
+     * of normally distributed data.
+     */
+    public static final double NORMAL_CONSISTENCY = 1.482602218505602;
+
+    private RobustStatistic() {}
+
+    public static double medianAbsoluteDeviation(double... input) {
+        return medianAbsoluteDeviation(input, 0, input.length);
+    }
+
+    public static double medianAbsoluteDeviation(double[] input, int offset, int length) {
+        return medianAbsoluteDeviation(input, offset, length, new double[length]);
+    }
+
+    /**
+     * Returns the median of the absolute deviations from the median. The
+     * deviations overwrite the copy in the scratch buffer, so the second
+     * median needs no further copy.
+     */
+    public static double medianAbsoluteDeviation(double[] input, int offset, int length, double[] scratch) {
+        if (!copy(input, offset, length, scratch)) {
+            return Double.NaN;
+        }
+        var median = Selection.median(scratch, 0, length, length);
+        for (var i = 0; i < length; ++i) {
+            scratch[i] = abs(scratch[i] - median);
+        }
+        return Selection.median(scratch, 0, length, length);
+    }
+
+    public static double interquartileRange(double... input) {
+        return interquartileRange(input, 0, input.length);
+    }
+
+    public static double interquartileRange(double[] input, int offset, int length) {
+        return interquartileRange(input, offset, length, new double[length]);
+    }
+
+    public static double interquartileRange(double[] input, int offset, int length, double[] scratch) {
+        if (!copy(input, offset, length, scratch)) {
+            return Double.NaN;
+        }
+        var quartiles = new double[2];
+        Selection.quantiles(scratch, length, length, new double[] {0.25D, 0.75D}, quartiles);
+        return quartiles[1] - quartiles[0];
+    }
+
+    public static double trimmedMean(double[] input, double proportion) {
+        return trimmedMean(input, 0, input.length, proportion);
+    }
+
+    public static double trimmedMean(double[] input, int offset, int length, double proportion) {
+        return trimmedMean(input, offset, length, proportion, new double[length]);
+    }
+
+    /**
+     * Returns the mean of the values left after dropping
+     * {@code floor(proportion * length)} of the smallest and as many of the
+     * largest. The proportion must be at least zero and less than one half.
+     */
+    public static double trimmedMean(double[] input, int offset, int length, double proportion, double[] scratch) {
+        var trimmed = numberToTrim(length, proportion);
+        if (!copy(input, offset, length, scratch)) {
+            return Double.NaN;
+        }
+        partitionTails(scratch, length, trimmed);
+        return KERNELS.sum(scratch, trimmed, length - 2 * trimmed) / (length - 2 * trimmed);
+    }
+
+    public static double winsorizedMean(double[] input, double proportion) {
+        return winsorizedMean(input, 0, input.length, proportion);
+    }
+
+    public static double winsorizedMean(double[] input, int offset, int length, double proportion) {
+        return winsorizedMean(input, offset, length, proportion, new double[length]);
+    }
+
+    /**
+     * Returns the mean after replacing {@code floor(proportion * length)} of
+     * the smallest values by the next smallest and as many of the largest by
+     * the next largest. The proportion must be at least zero and less than
+     * one half.
+     */
+    public static double winsorizedMean(double[] input, int offset, int length, double proportion, double[] scratch) {
+        if (!winsorize(input, offset, length, proportion, scratch)) {
+            return Double.NaN;
+        }
+        return Statistic.arithmeticMean(scratch, 0, length);
+    }
+
+    public static double winsorizedVariance(double[] input, double proportion) {
+        return winsorizedVariance(input, 0, input.length, proportion);
+    }
+
+    public static double winsorizedVariance(double[] input, int offset, int length, double proportion) {
+        return winsorizedVariance(input, offset, length, proportion, new double[length]);
+    }
+
+    /**
+     * Returns the sample variance of the values winsorized as for
+     * {@link #winsorizedMean(double[], int, int, double, double[])}.
+     */
+    public static double winsorizedVariance(
+            double[] input, int offset, int length, double proportion, double[] scratch) {
+        if (!winsorize(input, offset, length, proportion, scratch)) {
+            return Double.NaN;
+        }
+        return Statistic.sampleVariance(scratch, 0, length);
+    }
+
+    public static double hodgesLehmann(double... input) {
+        return hodgesLehmann(input, 0, input.length);
+    }
+
+    public static double hodgesLehmann(double[] input, int offset, int length) {
+        return hodgesLehmann(input, offset, length, new double[length]);
+    }
+
+    /**
+     * Returns the Hodges-Lehmann estimator: the median of the averages of all
+     * pairs of values, each value paired with itself as well. Rather than
+     * forming the quadratic number of pairs, this sorts the values and finds
+     * the middle pair sums by bisecting over their ordered bit patterns,
+     * counting the pairs at or below each candidate with two pointers. That
+     * takes {@code O(n log n)} time and no memory beyond the scratch buffer.
+     */
+    public static double hodgesLehmann(double[] input, int offset, int length, double[] scratch) {
+        if (!copy(input, offset, length, scratch) || length == 0) {
+            return Double.NaN;
+        }
+        sort(scratch, 0, length);
+        var pairs = (long) length * (length + 1) / 2;
+        var upper = pairSumOfRank(scratch, length, pairs / 2);
+        if (pairs % 2 == 1) {
+            return upper / 2D;
+        }
+        var lower = pairSumOfRank(scratch, length, pairs / 2 - 1);
+        return (lower / 2D + upper / 2D) / 2D;
+    }
+
+    /*
+     * Returns the pair sum of the given zero-based rank: the smallest sum
+     * that at least rank + 1 pairs do not exceed.
+     */
+    private static double pairSumOfRank(double[] sorted, int length, long rank) {
+        var low = orderedBits(sorted[0] + sorted[0]);
+        var high = orderedBits(sorted[length - 1] + sorted[length - 1]);
+        while (low < high) {
+            var middle = (low >> 1) + (high >> 1) + (low & high & 1L);
+            if (pairsNotExceeding(sorted, length, fromOrderedBits(middle)) > rank) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return fromOrderedBits(low);
+    }
+
+    private static long pairsNotExceeding(double[] sorted, int length, double limit) {
+        var count = 0L;
+        var j = length - 1;
+        for (var i = 0; i < length && i <= j; ++i) {
+            while (j >= i && sorted[i] + sorted[j] > limit) {
+                --j;
+            }
+            count += j - i + 1;
+        }
+        return count;
+    }
+
+    /*
+     * Maps doubles to longs with the same order, so that bisection over the
+     * longs visits every double in between.
+     */
+    private static long orderedBits(double value) {
+        var bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static double fromOrderedBits(long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    private static boolean winsorize(double[] input, int offset, int length, double proportion, double[] scratch) {
+        var trimmed = numberToTrim(length, proportion);
+        if (!copy(input, offset, length, scratch)) {
+            return false;
+        }
+        partitionTails(scratch, length, trimmed);
+        if (trimmed > 0) {
+            var smallest = scratch[trimmed];
+            var largest = scratch[length - trimmed - 1];
+            for (var i = 0; i < trimmed; ++i) {
+                scratch[i] = smallest;
+                scratch[length - 1 - i] = largest;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Selects the two order statistics either side of the kept middle, which
+     * leaves the trimmed values at each end of the buffer.
+     */
+    private static void partitionTails(double[] data, int length, int trimmed) {
+        if (trimmed > 0) {
+            var ranks = new int[] {trimmed, length - trimmed - 1};
+            Selection.selectAll(data, 0, length, ranks, 0, ranks[0] == ranks[1] ? 1 : 2);
+        }
+    }
+
+    private static int numberToTrim(int length, double proportion) throws IllegalArgumentException {
+        if (!(proportion >= 0D && proportion < 0.5D)) {
+            throw new IllegalArgumentException();
+        }
+        return (int) floor(proportion * length);
+    }
+
+    /*
+     * Copies the input into the scratch buffer, returning false if it holds a
+     * NaN.
+     */
+    private static boolean copy(double[] input, int offset, int length, double[] scratch)
+            throws IllegalArgumentException {
+        checkFromIndexSize(offset, length, input.length);
+        if (scratch.length < length) {
+            throw new IllegalArgumentException();
+        }
+        return Selection.copyWithNaNsLast(input, offset, length, scratch) == length;
+    }
+}
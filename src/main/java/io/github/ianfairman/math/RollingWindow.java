@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.Kernels.KERNELS;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Mean, variance and median of the most recent values pushed into a window of
+ * fixed size. Moments are updated in O(1) and re-derived exactly each time the
+ * window wraps, so rounding error cannot accumulate; the median is maintained
+ * in O(log size). While the window holds a NaN the moments and the median
+ * are NaN, as they are in {@link Statistic}.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class RollingWindow implements DoubleConsumer {
+
+    private final double[] values;
+    private final SlidingMedian median;
+    private int next;
+    private int count;
+    private int numberOfNaNs;
+    private double mean;
+    private double sumOfSquaredDeviations;
+
+    public RollingWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.values = new double[size];
+        this.median = new SlidingMedian(values);
+    }
+
+    public static double[] arithmeticMeans(double[] input, int size) {
+        var window = new RollingWindow(size);
+        var result = new double[resultLength(input, size)];
+        for (var i = 0; i < input.length; ++i) {
+            window.accept(input[i]);
+            if (i + 1 >= size) {
+                result[i + 1 - size] = window.arithmeticMean();
+            }
+        }
+        return result;
+    }
+
+    public static double[] populationVariances(double[] input, int size) {
+        var window = new RollingWindow(size);
+        var result = new double[resultLength(input, size)];
+        for (var i = 0; i < input.length; ++i) {
+            window.accept(input[i]);
+            if (i + 1 >= size) {
+                result[i + 1 - size] = window.populationVariance();
+            }
+        }
+        return result;
+    }
+
+    public static double[] populationStandardDeviations(double[] input, int size) {
+        var result = populationVariances(input, size);
+        for (var i = 0; i < result.length; ++i) {
+            result[i] = sqrt(result[i]);
+        }
+        return result;
+    }
+
+    public static double[] sampleVariances(double[] input, int size) {
+        var window = new RollingWindow(size);
+        var result = new double[resultLength(input, size)];
+        for (var i = 0; i < input.length; ++i) {
+            window.accept(input[i]);
+            if (i + 1 >= size) {
+                result[i + 1 - size] = window.sampleVariance();
+            }
+        }
+        return result;
+    }
+
+    public static double[] sampleStandardDeviations(double[] input, int size) {
+        var result = sampleVariances(input, size);
+        for (var i = 0; i < result.length; ++i) {
+            result[i] = sqrt(result[i]);
+        }
+        return result;
+    }
+
+    public static double[] medians(double[] input, int size) {
+        var window = new RollingWindow(size);
+        var result = new double[resultLength(input, size)];
+        for (var i = 0; i < input.length; ++i) {
+            window.accept(input[i]);
+            if (i + 1 >= size) {
+                result[i + 1 - size] = window.median();
+            }
+        }
+        return result;
+    }
+
+    private static int resultLength(double[] input, int size) {
+        return max(0, input.length - size + 1);
+    }
+
+    @Override
+    public void accept(double value) {
+        if (count == values.length) {
+            evict(next);
+        } else {
+            ++count;
+        }
+        values[next] = value;
+        median.add(next);
+        if (value != value) {
+            ++numberOfNaNs;
+        } else {
+            var n = count - numberOfNaNs;
+            var delta = value - mean;
+            mean += delta / n;
+            sumOfSquaredDeviations += delta * (value - mean);
+        }
+        if (++next == values.length) {
+            next = 0;
+            recalculateMoments();
+        }
+    }
+
+    private void evict(int slot) {
+        median.remove(slot);
+        var value = values[slot];
+        if (value != value) {
+            --numberOfNaNs;
+            return;
+        }
+        var n = count - numberOfNaNs;
+        if (n == 1) {
+            mean = 0D;
+            sumOfSquaredDeviations = 0D;
+            return;
+        }
+        var delta = value - mean;
+        mean -= delta / (n - 1);
+        sumOfSquaredDeviations = max(0D, sumOfSquaredDeviations - delta * (value - mean));
+    }
+
+    private void recalculateMoments() {
+        if (numberOfNaNs > 0) {
+            return;
+        }
+        mean = KERNELS.sum(values, 0, count) / count;
+        sumOfSquaredDeviations = KERNELS.sumOfSquaredDeviations(values, 0, count, mean);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isFull() {
+        return count == values.length;
+    }
+
+    public void clear() {
+        next = 0;
+        count = 0;
+        numberOfNaNs = 0;
+        mean = 0D;
+        sumOfSquaredDeviations = 0D;
+        median.clear();
+    }
+
+    public double arithmeticMean() {
+        return count == 0 || numberOfNaNs > 0 ? Double.NaN : mean;
+    }
+
+    public double populationVariance() {
+        return numberOfNaNs > 0 ? Double.NaN : sumOfSquaredDeviations / count;
+    }
+
+    public double populationStandardDeviation() {
+        return sqrt(populationVariance());
+    }
+
+    public double sampleVariance() {
+        return numberOfNaNs > 0 ? Double.NaN : sumOfSquaredDeviations / (count - 1);
+    }
+
+    public double sampleStandardDeviation() {
+        return sqrt(sampleVariance());
+    }
+
+    public double median() {
+        return numberOfNaNs > 0 ? Double.NaN : median.median();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * Storage holding every cell in one array, row after row.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class RowMajorStorage implements TableStorage {
+
+    private final double[] data;
+    private final int numberOfRows;
+    private final int numberOfColumns;
+
+    RowMajorStorage(double[] data, int numberOfRows, int numberOfColumns) {
+        this.data = data;
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    static RowMajorStorage copyOf(double[][] array) {
+        var numberOfColumns = array[0].length;
+        var data = new double[TableStorage.size(array.length, numberOfColumns)];
+        for (var row = 0; row < array.length; ++row) {
+            arraycopy(array[row], 0, data, row * numberOfColumns, numberOfColumns);
+        }
+        return new RowMajorStorage(data, array.length, numberOfColumns);
+    }
+
+    double[] data() {
+        return data;
+    }
+
+    @Override
+    public int numberOfRows() {
+        return numberOfRows;
+    }
+
+    @Override
+    public int numberOfColumns() {
+        return numberOfColumns;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return data[row * numberOfColumns + column];
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination, int offset) {
+        arraycopy(data, row * numberOfColumns, destination, offset, numberOfColumns);
+    }
+
+    @Override
+    public void copyColumn(int column, double[] destination, int offset) {
+        for (int row = 0, index = column; row < numberOfRows; ++row, index += numberOfColumns) {
+            destination[offset + row] = data[index];
+        }
+    }
+
+    @Override
+    public void copyColumns(int fromColumn, int toColumn, double[] destination) {
+        for (var rowTile = 0; rowTile < numberOfRows; rowTile += TILE) {
+            var rowEnd = Math.min(rowTile + TILE, numberOfRows);
+            for (var columnTile = fromColumn; columnTile < toColumn; columnTile += TILE) {
+                var columnEnd = Math.min(columnTile + TILE, toColumn);
+                for (var row = rowTile; row < rowEnd; ++row) {
+                    var source = row * numberOfColumns;
+                    for (var column = columnTile; column < columnEnd; ++column) {
+                        destination[(column - fromColumn) * numberOfRows + row] = data[source + column];
+                    }
+                }
+            }
+        }
+    }
+}
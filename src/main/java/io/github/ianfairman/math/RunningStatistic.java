@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.Kernels.KERNELS;
+import static java.lang.Math.sqrt;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Count, sum, mean and variance of a stream of values, maintained in constant
+ * memory. Instances are not thread-safe; accumulate per thread or partition
+ * and {@link #combine} the results.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class RunningStatistic implements DoubleConsumer {
+
+    private long count;
+    private double sum;
+    private double mean;
+    private double sumOfSquaredDeviations;
+
+    @Override
+    public void accept(double value) {
+        ++count;
+        sum += value;
+        var delta = value - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (value - mean);
+    }
+
+    public void accept(double[] values, int offset, int length) {
+        checkFromIndexSize(offset, length, values.length);
+        if (length == 0) {
+            return;
+        }
+        var blockSum = KERNELS.sum(values, offset, length);
+        var blockMean = blockSum / length;
+        merge(length, blockSum, blockMean, KERNELS.sumOfSquaredDeviations(values, offset, length, blockMean));
+    }
+
+    public RunningStatistic combine(RunningStatistic other) {
+        requireNonNull(other);
+        merge(other.count, other.sum, other.mean, other.sumOfSquaredDeviations);
+        return this;
+    }
+
+    private void merge(long otherCount, double otherSum, double otherMean, double otherSumOfSquaredDeviations) {
+        if (otherCount == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = otherCount;
+            sum = otherSum;
+            mean = otherMean;
+            sumOfSquaredDeviations = otherSumOfSquaredDeviations;
+            return;
+        }
+        var total = count + otherCount;
+        var delta = otherMean - mean;
+        var otherFraction = (double) otherCount / total;
+        mean += delta * otherFraction;
+        sumOfSquaredDeviations += otherSumOfSquaredDeviations + delta * delta * count * otherFraction;
+        sum += otherSum;
+        count = total;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double sum() {
+        return sum;
+    }
+
+    public double arithmeticMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    public double populationVariance() {
+        return sumOfSquaredDeviations / count;
+    }
+
+    public double populationStandardDeviation() {
+        return sqrt(populationVariance());
+    }
+
+    public double sampleVariance() {
+        return sumOfSquaredDeviations / (count - 1);
+    }
+
+    public double sampleStandardDeviation() {
+        return sqrt(sampleVariance());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class ScalarKernels implements Kernels {
+
+    @Override
+    public double sum(double[] data, int offset, int length) {
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            sum += data[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfDeviations(double[] data, int offset, int length, double mean) {
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            sum += data[i] - mean;
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            var deviation = data[i] - mean;
+            sumOfSquares += deviation * deviation;
+            sumOfDeviations += deviation;
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+    }
+
+    @Override
+    public int countOfNaN(double[] data, int offset, int length) {
+        var count = 0;
+        for (var i = offset; i < offset + length; ++i) {
+            if (data[i] != data[i]) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double sumOfNonNaN(double[] data, int offset, int length) {
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            if (data[i] == data[i]) {
+                sum += data[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquaredDeviationsOfNonNaN(double[] data, int offset, int length, double mean, int count) {
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            if (data[i] == data[i]) {
+                var deviation = data[i] - mean;
+                sumOfSquares += deviation * deviation;
+                sumOfDeviations += deviation;
+            }
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / count;
+    }
+
+    @Override
+    public void subtract(double[] source, int sourceOffset, double constant, double[] destination, int destinationOffset, int length) {
+        for (var i = 0; i < length; ++i) {
+            destination[destinationOffset + i] = source[sourceOffset + i] - constant;
+        }
+    }
+
+    @Override
+    public void square(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        for (var i = 0; i < length; ++i) {
+            var value = source[sourceOffset + i];
+            destination[destinationOffset + i] = value * value;
+        }
+    }
+
+    @Override
+    public void squaredDeviation(double[] source, int sourceOffset, double mean, double[] destination, int destinationOffset, int length) {
+        for (var i = 0; i < length; ++i) {
+            var deviation = source[sourceOffset + i] - mean;
+            destination[destinationOffset + i] = deviation * deviation;
+        }
+    }
+}
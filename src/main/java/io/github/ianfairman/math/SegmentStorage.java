@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import java.nio.ByteOrder;
+
+/**
+ * Storage over a memory segment holding the cells row after row as
+ * little-endian doubles. The segment may be off-heap or memory-mapped; its
+ * lifetime is that of the arena it was allocated in.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class SegmentStorage implements TableStorage {
+
+    static final ValueLayout.OfDouble CELL = JAVA_DOUBLE.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final MemorySegment segment;
+    private final int numberOfRows;
+    private final int numberOfColumns;
+
+    SegmentStorage(MemorySegment segment, int numberOfRows, int numberOfColumns) {
+        this.segment = segment;
+        this.numberOfRows = numberOfRows;
+        this.numberOfColumns = numberOfColumns;
+    }
+
+    @Override
+    public int numberOfRows() {
+        return numberOfRows;
+    }
+
+    @Override
+    public int numberOfColumns() {
+        return numberOfColumns;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        return segment.getAtIndex(CELL, (long) row * numberOfColumns + column);
+    }
+
+    @Override
+    public void copyRow(int row, double[] destination, int offset) {
+        var byteOffset = (long) row * numberOfColumns * Double.BYTES;
+        MemorySegment.copy(segment, CELL, byteOffset, destination, offset, numberOfColumns);
+    }
+
+    @Override
+    public void copyColumn(int column, double[] destination, int offset) {
+        var index = (long) column;
+        for (var row = 0; row < numberOfRows; ++row, index += numberOfColumns) {
+            destination[offset + row] = segment.getAtIndex(CELL, index);
+        }
+    }
+}
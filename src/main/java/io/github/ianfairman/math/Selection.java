@@ -0,0 +1,549 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.Math.floor;
+import static java.util.Arrays.sort;
+
+/**
+ * Introselect over ranges of a double array. Ranges passed to the selection
+ * methods must not contain NaN; callers move NaNs out of the way with
+ * {@link #copyWithNaNsLast} first, which mirrors the ordering used by
+ * {@link java.util.Arrays#sort(double[])}.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class Selection {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Selection() {}
+
+    /**
+     * Copies {@code length} values from {@code source} into the start of
+     * {@code destination}, placing any NaNs after every other value.
+     *
+     * @return the number of values that are not NaN
+     */
+    static int copyWithNaNsLast(double[] source, int offset, int length, double[] destination) {
+        var count = 0;
+        var end = length;
+        for (var i = 0; i < length; ++i) {
+            var value = source[offset + i];
+            if (value != value) {
+                destination[--end] = value;
+            } else {
+                destination[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Moves any NaNs among the {@code length} values of {@code data} starting
+     * at {@code offset} after every other value.
+     *
+     * @return the number of values that are not NaN
+     */
+    static int moveNaNsLast(double[] data, int offset, int length) {
+        var end = offset + length;
+        var i = offset;
+        while (i < end) {
+            if (data[i] != data[i]) {
+                swap(data, i, --end);
+            } else {
+                ++i;
+            }
+        }
+        return end - offset;
+    }
+
+    /**
+     * Returns the quantiles of the first {@code length} values of {@code data},
+     * of which the first {@code count} are not NaN, interpolating linearly
+     * between order statistics. The data is reordered.
+     */
+    static void quantiles(double[] data, int length, int count, double[] ps, double[] result) {
+        if (length == 0) {
+            for (var i = 0; i < ps.length; ++i) {
+                result[i] = Double.NaN;
+            }
+            return;
+        }
+        var ranks = new int[2 * ps.length];
+        var numberOfRanks = 0;
+        for (var p : ps) {
+            var position = (length - 1) * p;
+            var lower = (int) floor(position);
+            if (lower < count) {
+                ranks[numberOfRanks++] = lower;
+            }
+            if (position > lower && lower + 1 < count) {
+                ranks[numberOfRanks++] = lower + 1;
+            }
+        }
+        sort(ranks, 0, numberOfRanks);
+        var distinct = 0;
+        for (var i = 0; i < numberOfRanks; ++i) {
+            if (distinct == 0 || ranks[distinct - 1] != ranks[i]) {
+                ranks[distinct++] = ranks[i];
+            }
+        }
+        selectAll(data, 0, count, ranks, 0, distinct);
+        for (var i = 0; i < ps.length; ++i) {
+            var position = (length - 1) * ps[i];
+            var lower = (int) floor(position);
+            var fraction = position - lower;
+            var lowerValue = orderStatistic(data, count, lower);
+            result[i] = fraction == 0D
+                    ? lowerValue
+                    : (1D - fraction) * lowerValue + fraction * orderStatistic(data, count, lower + 1);
+        }
+    }
+
+    /**
+     * Returns the median of the {@code length} values of {@code data} starting
+     * at {@code offset}, of which the first {@code count} are not NaN. The
+     * data is reordered.
+     */
+    static double median(double[] data, int offset, int length, int count) {
+        if (length == 0) {
+            return Double.NaN;
+        }
+        var middle = length / 2;
+        if (middle >= count) {
+            return Double.NaN;
+        }
+        var k = offset + middle;
+        select(data, offset, offset + count, k);
+        if (length % 2 == 0) {
+            select(data, offset, k, k - 1);
+            return (data[k] + data[k - 1]) / 2D;
+        }
+        return data[k];
+    }
+
+    /**
+     * Returns the median of the {@code length} values of {@code data}
+     * starting at {@code offset}, of which the first {@code count} are not
+     * NaN, treating the NaNs as the policy says. The data is reordered.
+     */
+    static double median(double[] data, int offset, int length, int count, NaNPolicy policy) {
+        var lengthToUse = policy.lengthToUse(length, count);
+        return lengthToUse < 0 ? Double.NaN : median(data, offset, lengthToUse, count);
+    }
+
+    /**
+     * Returns the median of the {@code length} values of {@code data}
+     * starting at {@code offset}, which may include NaNs, treating them as the
+     * policy says. The data is reordered.
+     */
+    static double medianInPlace(double[] data, int offset, int length, NaNPolicy policy) {
+        return median(data, offset, length, moveNaNsLast(data, offset, length), policy);
+    }
+
+    /**
+     * As {@link #quantiles(double[], int, int, double[], double[])}, treating
+     * the NaNs as the policy says.
+     */
+    static void quantiles(double[] data, int length, int count, double[] ps, double[] result, NaNPolicy policy) {
+        var lengthToUse = policy.lengthToUse(length, count);
+        if (lengthToUse < 0) {
+            for (var i = 0; i < ps.length; ++i) {
+                result[i] = Double.NaN;
+            }
+            return;
+        }
+        quantiles(data, lengthToUse, count, ps, result);
+    }
+
+    private static double orderStatistic(double[] data, int count, int rank) {
+        return rank < count ? data[rank] : Double.NaN;
+    }
+
+    /**
+     * Places every rank in {@code ranks[rankFrom, rankTo)}, which must be
+     * sorted, at its final sorted position within {@code data[from, to)}.
+     */
+    static void selectAll(double[] data, int from, int to, int[] ranks, int rankFrom, int rankTo) {
+        while (rankFrom < rankTo) {
+            var middle = (rankFrom + rankTo) >>> 1;
+            var rank = ranks[middle];
+            select(data, from, to, rank);
+            selectAll(data, from, rank, ranks, rankFrom, middle);
+            from = rank + 1;
+            rankFrom = middle + 1;
+        }
+    }
+
+    /**
+     * Reorders {@code data[from, to)} so that {@code data[k]} holds the value
+     * it would hold if the range were sorted, with no larger value before it
+     * and no smaller value after it.
+     */
+    static void select(double[] data, int from, int to, int k) {
+        var depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (k == from) {
+                swap(data, from, indexOfMinimum(data, from, to));
+                return;
+            }
+            if (k == to - 1) {
+                swap(data, to - 1, indexOfMaximum(data, from, to));
+                return;
+            }
+            if (depthLimit-- == 0) {
+                sort(data, from, to);
+                return;
+            }
+            var pivot = pivot(data, from, to);
+            var lessThan = from;
+            var index = from;
+            var greaterThan = to;
+            while (index < greaterThan) {
+                var value = data[index];
+                if (value < pivot) {
+                    swap(data, lessThan++, index++);
+                } else if (value > pivot) {
+                    swap(data, index, --greaterThan);
+                } else {
+                    ++index;
+                }
+            }
+            if (k < lessThan) {
+                to = lessThan;
+            } else if (k >= greaterThan) {
+                from = greaterThan;
+            } else {
+                return;
+            }
+        }
+        insertionSort(data, from, to);
+    }
+
+    private static double pivot(double[] data, int from, int to) {
+        var last = to - 1;
+        var middle = (from + last) >>> 1;
+        if (to - from > 1024) {
+            var eighth = (to - from) >>> 3;
+            return medianOfThree(
+                    medianOfThree(data[from], data[from + eighth], data[from + 2 * eighth]),
+                    medianOfThree(data[middle - eighth], data[middle], data[middle + eighth]),
+                    medianOfThree(data[last - 2 * eighth], data[last - eighth], data[last]));
+        }
+        return medianOfThree(data[from], data[middle], data[last]);
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        }
+        return a < c ? a : (b < c ? c : b);
+    }
+
+    private static int indexOfMinimum(double[] data, int from, int to) {
+        var result = from;
+        for (var i = from + 1; i < to; ++i) {
+            if (data[i] < data[result]) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static int indexOfMaximum(double[] data, int from, int to) {
+        var result = from;
+        for (var i = from + 1; i < to; ++i) {
+            if (data[i] > data[result]) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static void insertionSort(double[] data, int from, int to) {
+        for (var i = from + 1; i < to; ++i) {
+            var value = data[i];
+            var j = i - 1;
+            while (j >= from && data[j] > value) {
+                data[j + 1] = data[j];
+                --j;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    private static void swap(double[] data, int i, int j) {
+        var temporary = data[i];
+        data[i] = data[j];
+        data[j] = temporary;
+    }
+
+    /**
+     * As {@link #copyWithNaNsLast(double[], int, int, double[])}, for
+     * {@code float} values.
+     */
+    static int copyWithNaNsLast(float[] source, int offset, int length, float[] destination) {
+        var count = 0;
+        var end = length;
+        for (var i = 0; i < length; ++i) {
+            var value = source[offset + i];
+            if (value != value) {
+                destination[--end] = value;
+            } else {
+                destination[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * As {@link #select(double[], int, int, int)}, for {@code float} values.
+     */
+    static void select(float[] data, int from, int to, int k) {
+        var depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                sort(data, from, to);
+                return;
+            }
+            var last = to - 1;
+            var middle = (from + last) >>> 1;
+            var pivot = medianOfThree(data[from], data[middle], data[last]);
+            var lessThan = from;
+            var index = from;
+            var greaterThan = to;
+            while (index < greaterThan) {
+                var value = data[index];
+                if (value < pivot) {
+                    swap(data, lessThan++, index++);
+                } else if (value > pivot) {
+                    swap(data, index, --greaterThan);
+                } else {
+                    ++index;
+                }
+            }
+            if (k < lessThan) {
+                to = lessThan;
+            } else if (k >= greaterThan) {
+                from = greaterThan;
+            } else {
+                return;
+            }
+        }
+        insertionSort(data, from, to);
+    }
+
+    /**
+     * Returns the median of the first {@code length} values of {@code data},
+     * which must not be NaN. The data is reordered.
+     */
+    static double median(float[] data, int length) {
+        if (length == 0) {
+            return Double.NaN;
+        }
+        var k = length / 2;
+        select(data, 0, length, k);
+        if (length % 2 == 0) {
+            select(data, 0, k, k - 1);
+            return ((double) data[k] + (double) data[k - 1]) / 2D;
+        }
+        return data[k];
+    }
+
+    private static float medianOfThree(float a, float b, float c) {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        }
+        return a < c ? a : (b < c ? c : b);
+    }
+
+    private static void insertionSort(float[] data, int from, int to) {
+        for (var i = from + 1; i < to; ++i) {
+            var value = data[i];
+            var j = i - 1;
+            while (j >= from && data[j] > value) {
+                data[j + 1] = data[j];
+                --j;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    private static void swap(float[] data, int i, int j) {
+        var temporary = data[i];
+        data[i] = data[j];
+        data[j] = temporary;
+    }
+
+    /**
+     * As {@link #select(double[], int, int, int)}, for {@code int} values.
+     */
+    static void select(int[] data, int from, int to, int k) {
+        var depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                sort(data, from, to);
+                return;
+            }
+            var last = to - 1;
+            var middle = (from + last) >>> 1;
+            var pivot = medianOfThree(data[from], data[middle], data[last]);
+            var lessThan = from;
+            var index = from;
+            var greaterThan = to;
+            while (index < greaterThan) {
+                var value = data[index];
+                if (value < pivot) {
+                    swap(data, lessThan++, index++);
+                } else if (value > pivot) {
+                    swap(data, index, --greaterThan);
+                } else {
+                    ++index;
+                }
+            }
+            if (k < lessThan) {
+                to = lessThan;
+            } else if (k >= greaterThan) {
+                from = greaterThan;
+            } else {
+                return;
+            }
+        }
+        insertionSort(data, from, to);
+    }
+
+    /**
+     * Returns the median of the first {@code length} values of {@code data},
+     * which must not be NaN. The data is reordered.
+     */
+    static double median(int[] data, int length) {
+        if (length == 0) {
+            return Double.NaN;
+        }
+        var k = length / 2;
+        select(data, 0, length, k);
+        if (length % 2 == 0) {
+            select(data, 0, k, k - 1);
+            return ((double) data[k] + (double) data[k - 1]) / 2D;
+        }
+        return data[k];
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        }
+        return a < c ? a : (b < c ? c : b);
+    }
+
+    private static void insertionSort(int[] data, int from, int to) {
+        for (var i = from + 1; i < to; ++i) {
+            var value = data[i];
+            var j = i - 1;
+            while (j >= from && data[j] > value) {
+                data[j + 1] = data[j];
+                --j;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    private static void swap(int[] data, int i, int j) {
+        var temporary = data[i];
+        data[i] = data[j];
+        data[j] = temporary;
+    }
+
+    /**
+     * As {@link #select(double[], int, int, int)}, for {@code long} values.
+     */
+    static void select(long[] data, int from, int to, int k) {
+        var depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                sort(data, from, to);
+                return;
+            }
+            var last = to - 1;
+            var middle = (from + last) >>> 1;
+            var pivot = medianOfThree(data[from], data[middle], data[last]);
+            var lessThan = from;
+            var index = from;
+            var greaterThan = to;
+            while (index < greaterThan) {
+                var value = data[index];
+                if (value < pivot) {
+                    swap(data, lessThan++, index++);
+                } else if (value > pivot) {
+                    swap(data, index, --greaterThan);
+                } else {
+                    ++index;
+                }
+            }
+            if (k < lessThan) {
+                to = lessThan;
+            } else if (k >= greaterThan) {
+                from = greaterThan;
+            } else {
+                return;
+            }
+        }
+        insertionSort(data, from, to);
+    }
+
+    /**
+     * Returns the median of the first {@code length} values of {@code data},
+     * which must not be NaN. The data is reordered.
+     */
+    static double median(long[] data, int length) {
+        if (length == 0) {
+            return Double.NaN;
+        }
+        var k = length / 2;
+        select(data, 0, length, k);
+        if (length % 2 == 0) {
+            select(data, 0, k, k - 1);
+            return ((double) data[k] + (double) data[k - 1]) / 2D;
+        }
+        return data[k];
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        }
+        return a < c ? a : (b < c ? c : b);
+    }
+
+    private static void insertionSort(long[] data, int from, int to) {
+        for (var i = from + 1; i < to; ++i) {
+            var value = data[i];
+            var j = i - 1;
+            while (j >= from && data[j] > value) {
+                data[j + 1] = data[j];
+                --j;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    private static void swap(long[] data, int i, int j) {
+        var temporary = data[i];
+        data[i] = data[j];
+        data[j] = temporary;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ * A reduction of {@code length} values starting at {@code offset}, such as
+ * {@link Statistic#sum(double[], int, int)}.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+@FunctionalInterface
+interface SliceReduction {
+
+    double reduce(double[] data, int offset, int length);
+}
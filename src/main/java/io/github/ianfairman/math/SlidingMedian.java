@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ * Median of the occupied slots of a window, kept in a max-heap of the lower
+ * half and a min-heap of the upper half. Each slot records its position in
+ * its heap so that evicting it costs O(log n). Values are ordered as by
+ * {@link Double#compare}, so a NaN sorts last and the heaps stay ordered
+ * while one is in the window; it is for the caller to answer NaN then, as
+ * {@link RollingWindow} does.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class SlidingMedian {
+
+    private final double[] values;
+    private final int[] lower;
+    private final int[] upper;
+    private final int[] position;
+    private final boolean[] inLower;
+    private int lowerSize;
+    private int upperSize;
+
+    SlidingMedian(double[] values) {
+        this.values = values;
+        this.lower = new int[values.length];
+        this.upper = new int[values.length];
+        this.position = new int[values.length];
+        this.inLower = new boolean[values.length];
+    }
+
+    void add(int slot) {
+        if (lowerSize == 0 || Double.compare(values[slot], values[lower[0]]) <= 0) {
+            inLower[slot] = true;
+            lower[lowerSize] = slot;
+            position[slot] = lowerSize;
+            siftUp(lower, lowerSize++, true);
+        } else {
+            inLower[slot] = false;
+            upper[upperSize] = slot;
+            position[slot] = upperSize;
+            siftUp(upper, upperSize++, false);
+        }
+        rebalance();
+    }
+
+    void remove(int slot) {
+        if (inLower[slot]) {
+            removeAt(lower, --lowerSize, position[slot], true);
+        } else {
+            removeAt(upper, --upperSize, position[slot], false);
+        }
+        rebalance();
+    }
+
+    void clear() {
+        lowerSize = 0;
+        upperSize = 0;
+    }
+
+    double median() {
+        if (lowerSize == 0) {
+            return Double.NaN;
+        }
+        if (lowerSize == upperSize) {
+            return (values[upper[0]] + values[lower[0]]) / 2D;
+        }
+        return values[lower[0]];
+    }
+
+    private void rebalance() {
+        if (lowerSize > upperSize + 1) {
+            var slot = lower[0];
+            removeAt(lower, --lowerSize, 0, true);
+            inLower[slot] = false;
+            upper[upperSize] = slot;
+            position[slot] = upperSize;
+            siftUp(upper, upperSize++, false);
+        } else if (upperSize > lowerSize) {
+            var slot = upper[0];
+            removeAt(upper, --upperSize, 0, false);
+            inLower[slot] = true;
+            lower[lowerSize] = slot;
+            position[slot] = lowerSize;
+            siftUp(lower, lowerSize++, true);
+        }
+    }
+
+    private void removeAt(int[] heap, int last, int index, boolean maximum) {
+        if (index == last) {
+            return;
+        }
+        var slot = heap[last];
+        move(heap, slot, index);
+        siftUp(heap, index, maximum);
+        siftDown(heap, last, position[slot], maximum);
+    }
+
+    private void siftUp(int[] heap, int index, boolean maximum) {
+        var slot = heap[index];
+        while (index > 0) {
+            var parent = (index - 1) >>> 1;
+            if (!before(slot, heap[parent], maximum)) {
+                break;
+            }
+            move(heap, heap[parent], index);
+            index = parent;
+        }
+        move(heap, slot, index);
+    }
+
+    private void siftDown(int[] heap, int size, int index, boolean maximum) {
+        var slot = heap[index];
+        while (true) {
+            var child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && before(heap[child + 1], heap[child], maximum)) {
+                ++child;
+            }
+            if (!before(heap[child], slot, maximum)) {
+                break;
+            }
+            move(heap, heap[child], index);
+            index = child;
+        }
+        move(heap, slot, index);
+    }
+
+    private boolean before(int slot, int other, boolean maximum) {
+        var comparison = Double.compare(values[slot], values[other]);
+        return maximum ? comparison > 0 : comparison < 0;
+    }
+
+    private void move(int[] heap, int slot, int index) {
+        heap[index] = slot;
+        position[slot] = index;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.Kernels.KERNELS;
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
+import static java.util.Objects.checkIndex;
+
+/**
+ * A sorted copy of a sample, made once by {@link Statistic#sorted} or
+ * {@link TwoWayTable#sortedRow} and {@link TwoWayTable#sortedColumn}, that
+ * answers order statistics without sorting again. Quantiles, minimum and
+ * maximum take constant time; ranks and the empirical distribution function
+ * take logarithmic time, as does the median absolute deviation. Trimmed and
+ * winsorized means sum the retained values directly, since a difference of
+ * prefix sums would cancel against the very outliers they exclude.
+ * Quantiles interpolate as {@link Statistic#quantile} does, so the two agree
+ * exactly.
+ * <p>
+ * NaNs are handled by the {@link NaNPolicy} given when the sample is made.
+ * Under {@link NaNPolicy#PROPAGATE}, a sample that held a NaN answers NaN to
+ * every question but {@link #size}, {@link #numberOfNaNs} and {@link #rank},
+ * which cannot answer NaN and counts only the values that are not NaN.
+ * Instances are immutable and safe to share between threads.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public final class SortedSample {
+
+    private final double[] values;
+    private final int numberOfNaNs;
+    private final boolean propagateNaN;
+
+    private SortedSample(double[] values, int numberOfNaNs, boolean propagateNaN) {
+        this.values = values;
+        this.numberOfNaNs = numberOfNaNs;
+        this.propagateNaN = propagateNaN;
+    }
+
+    /**
+     * Sorts the first {@code length} values of {@code data}, which the sample
+     * takes over.
+     */
+    static SortedSample sorting(double[] data, int length, NaNPolicy policy) {
+        var count = Selection.moveNaNsLast(data, 0, length);
+        var lengthToUse = policy.lengthToUse(length, count);
+        sort(data, 0, count);
+        var values = count == data.length ? data : copyOf(data, count);
+        return new SortedSample(values, length - count, lengthToUse < 0);
+    }
+
+    /**
+     * Returns the number of values in the sample, not counting NaNs.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    public int numberOfNaNs() {
+        return numberOfNaNs;
+    }
+
+    /**
+     * Returns the value of the given zero-based rank.
+     */
+    public double get(int rank) {
+        checkIndex(rank, values.length);
+        return propagateNaN ? Double.NaN : values[rank];
+    }
+
+    public double minimum() {
+        return isUndefined() ? Double.NaN : values[0];
+    }
+
+    public double maximum() {
+        return isUndefined() ? Double.NaN : values[values.length - 1];
+    }
+
+    public double median() {
+        return quantile(0.5D);
+    }
+
+    public double quantile(double p) {
+        if (!(p >= 0D && p <= 1D)) {
+            throw new IllegalArgumentException();
+        }
+        if (isUndefined()) {
+            return Double.NaN;
+        }
+        var position = (values.length - 1) * p;
+        var lower = (int) floor(position);
+        var fraction = position - lower;
+        return fraction == 0D
+                ? values[lower]
+                : (1D - fraction) * values[lower] + fraction * values[lower + 1];
+    }
+
+    public double[] quantiles(double... ps) {
+        var result = new double[ps.length];
+        for (var i = 0; i < ps.length; ++i) {
+            result[i] = quantile(ps[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of values less than or equal to the given value,
+     * not counting NaNs under any policy, and zero if the value is NaN.
+     */
+    public int rank(double value) {
+        var low = 0;
+        var high = values.length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (values[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the empirical distribution function at the given value: the
+     * proportion of values less than or equal to it.
+     */
+    public double cumulativeProbability(double value) {
+        if (isUndefined() || value != value) {
+            return Double.NaN;
+        }
+        return (double) rank(value) / values.length;
+    }
+
+    public double trimmedMean(double proportion) {
+        var trimmed = numberToTrim(proportion);
+        if (isUndefined()) {
+            return Double.NaN;
+        }
+        return KERNELS.sum(values, trimmed, values.length - 2 * trimmed) / (values.length - 2 * trimmed);
+    }
+
+    public double winsorizedMean(double proportion) {
+        var trimmed = numberToTrim(proportion);
+        if (isUndefined()) {
+            return Double.NaN;
+        }
+        var last = values.length - trimmed - 1;
+        var sum = KERNELS.sum(values, trimmed, last + 1 - trimmed) + trimmed * (values[trimmed] + values[last]);
+        return sum / values.length;
+    }
+
+    /**
+     * Returns the median absolute deviation from the median. The deviations
+     * of the values below the median, read downwards, and of those above,
+     * read upwards, are two sorted sequences, so the middle deviation is
+     * found by bisecting between them rather than forming and sorting them.
+     */
+    public double medianAbsoluteDeviation() {
+        if (isUndefined()) {
+            return Double.NaN;
+        }
+        var median = median();
+        var split = rank(Math.nextDown(median));
+        var middle = values.length / 2;
+        var upper = deviationOfRank(median, split, middle);
+        if (values.length % 2 == 1) {
+            return upper;
+        }
+        return (deviationOfRank(median, split, middle - 1) + upper) / 2D;
+    }
+
+    /*
+     * Returns the deviation of the given zero-based rank, merging the
+     * deviations below the split, which grow as the index falls, with those
+     * from the split upwards, which grow as it rises.
+     */
+    private double deviationOfRank(double median, int split, int rank) {
+        var below = split;
+        var above = values.length - split;
+        var low = max(0, rank + 1 - above);
+        var high = min(rank + 1, below);
+        while (low < high) {
+            var fromBelow = (low + high) >>> 1;
+            var fromAbove = rank + 1 - fromBelow;
+            if (fromAbove > 0 && fromBelow < below
+                    && median - values[split - 1 - fromBelow] < values[split + fromAbove - 1] - median) {
+                low = fromBelow + 1;
+            } else {
+                high = fromBelow;
+            }
+        }
+        var fromBelow = low;
+        var fromAbove = rank + 1 - fromBelow;
+        var result = Double.NEGATIVE_INFINITY;
+        if (fromBelow > 0) {
+            result = median - values[split - fromBelow];
+        }
+        if (fromAbove > 0) {
+            result = max(result, values[split + fromAbove - 1] - median);
+        }
+        return result;
+    }
+
+    private boolean isUndefined() {
+        return propagateNaN || values.length == 0;
+    }
+
+    private int numberToTrim(double proportion) throws IllegalArgumentException {
+        if (!(proportion >= 0D && proportion < 0.5D)) {
+            throw new IllegalArgumentException();
+        }
+        return (int) floor(proportion * values.length);
+    }
+}
@@ -1,9 +1,9 @@
 package io.github.ianfairman.math;
 
-import static java.lang.Math.pow;
+import static io.github.ianfairman.math.Kernels.KERNELS;
 import static java.lang.Math.sqrt;
-import static java.lang.System.arraycopy;
-import static java.util.Arrays.sort;
+import static java.util.Objects.checkFromIndexSize;
+import static java.util.Objects.requireNonNull;
 
 /*
  * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
@@ -22,72 +22,833 @@ import static java.util.Arrays.sort;
  */
 
 /**
+ * Statistics of arrays of doubles. Unless a {@link NaNPolicy} is given, a NaN
+ * in the input makes the result NaN. The policy overloads cost nothing extra
+ * when the input holds no NaN: the NaNs are only looked for once an ordinary
+ * pass has produced NaN.
  *
  * @author Ian Fairman <ian.fairman@gmail.com>
  */
 public class Statistic {
+
+    /*
+     * Below this length the parallel methods delegate to the sequential ones,
+     * since splitting would cost more than it saves.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
     
     public static double arithmeticMean(double... input) {
-        return sum(input)/input.length;
+        return arithmeticMean(input, 0, input.length);
+    }
+    
+    public static double arithmeticMean(double[] input, int offset, int length) {
+        return sum(input, offset, length)/length;
     }
     
     public static double sum(double... input) {
-        var sum = 0D;
-        for (var i = 0; i < input.length; ++i) {
-            sum += input[i];
-        }
-        return sum;
+        return sum(input, 0, input.length);
+    }
+    
+    public static double sum(double[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        return KERNELS.sum(input, offset, length);
     }
     
+    public static double sum(double[] input, NaNPolicy policy) {
+        return sum(input, 0, input.length, policy);
+    }
+
+    public static double sum(double[] input, int offset, int length, NaNPolicy policy) {
+        var sum = sum(input, offset, length);
+        var count = countToUse(input, offset, length, sum, policy);
+        return count == length ? sum : KERNELS.sumOfNonNaN(input, offset, length);
+    }
+
+    public static double arithmeticMean(double[] input, NaNPolicy policy) {
+        return arithmeticMean(input, 0, input.length, policy);
+    }
+
+    public static double arithmeticMean(double[] input, int offset, int length, NaNPolicy policy) {
+        var sum = sum(input, offset, length);
+        var count = countToUse(input, offset, length, sum, policy);
+        return (count == length ? sum : KERNELS.sumOfNonNaN(input, offset, length)) / count;
+    }
+
+    public static double sum(double[] input, Summation summation) {
+        return sum(input, 0, input.length, summation);
+    }
+
+    public static double sum(double[] input, int offset, int length, Summation summation) {
+        checkFromIndexSize(offset, length, input.length);
+        return summation.sum(input, offset, length);
+    }
+
+    public static double arithmeticMean(double[] input, Summation summation) {
+        return arithmeticMean(input, 0, input.length, summation);
+    }
+
+    public static double arithmeticMean(double[] input, int offset, int length, Summation summation) {
+        return sum(input, offset, length, summation) / length;
+    }
+
+    public static double populationVariance(double[] input, Summation summation) {
+        return populationVariance(input, 0, input.length, summation);
+    }
+
+    public static double populationVariance(double[] input, int offset, int length, Summation summation) {
+        var mean = arithmeticMean(input, offset, length, summation);
+        return summation.sumOfSquaredDeviations(input, offset, length, mean) / length;
+    }
+
+    public static double populationStandardDeviation(double[] input, Summation summation) {
+        return sqrt(populationVariance(input, summation));
+    }
+
+    public static double populationStandardDeviation(double[] input, int offset, int length, Summation summation) {
+        return sqrt(populationVariance(input, offset, length, summation));
+    }
+
+    public static double sampleVariance(double[] input, Summation summation) {
+        return sampleVariance(input, 0, input.length, summation);
+    }
+
+    public static double sampleVariance(double[] input, int offset, int length, Summation summation) {
+        var mean = arithmeticMean(input, offset, length, summation);
+        return summation.sumOfSquaredDeviations(input, offset, length, mean) / (length - 1);
+    }
+
+    public static double sampleStandardDeviation(double[] input, Summation summation) {
+        return sqrt(sampleVariance(input, summation));
+    }
+
+    public static double sampleStandardDeviation(double[] input, int offset, int length, Summation summation) {
+        return sqrt(sampleVariance(input, offset, length, summation));
+    }
+
     public static double[] deviation(double... input) {
-        var result = new double[input.length];
-        var average = arithmeticMean(input);
-        for(var i = 0; i < input.length; ++i) {
-            result[i] = input[i] - average;
-        }
+        return deviation(input, 0, input.length);
+    }
+
+    public static double[] deviation(double[] input, int offset, int length) {
+        var result = new double[length];
+        KERNELS.subtract(input, offset, arithmeticMean(input, offset, length), result, 0, length);
         return result;
     }
 
+    /**
+     * Writes the deviations from the mean of the slice into
+     * {@code destination} starting at {@code destinationOffset} and returns
+     * {@code destination}. The destination may be the input itself, provided
+     * the two slices either coincide or do not overlap.
+     */
+    public static double[] deviation(double[] input, int offset, int length, double[] destination, int destinationOffset) {
+        checkFromIndexSize(destinationOffset, length, destination.length);
+        KERNELS.subtract(input, offset, arithmeticMean(input, offset, length), destination, destinationOffset, length);
+        return destination;
+    }
+
+    public static double[] deviationInPlace(double[] input) {
+        return deviation(input, 0, input.length, input, 0);
+    }
+
+    public static double[] deviationInPlace(double[] input, int offset, int length) {
+        return deviation(input, offset, length, input, offset);
+    }
+
     public static double[] square(double... input) {
-        var result = new double[input.length];
-        for(var i = 0; i < input.length; ++i) {
-            result[i] = pow(input[i], 2D);
-        }
+        return square(input, 0, input.length);
+    }
+
+    public static double[] square(double[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var result = new double[length];
+        KERNELS.square(input, offset, result, 0, length);
         return result;
     }
 
+    public static double[] square(double[] input, int offset, int length, double[] destination, int destinationOffset) {
+        checkFromIndexSize(offset, length, input.length);
+        checkFromIndexSize(destinationOffset, length, destination.length);
+        KERNELS.square(input, offset, destination, destinationOffset, length);
+        return destination;
+    }
+
+    public static double[] squareInPlace(double[] input) {
+        return square(input, 0, input.length, input, 0);
+    }
+
+    public static double[] squareInPlace(double[] input, int offset, int length) {
+        return square(input, offset, length, input, offset);
+    }
+
+    /**
+     * Returns the squared deviations from the mean, computed in one pass
+     * without the intermediate array of {@code square(deviation(input))}.
+     */
+    public static double[] squaredDeviation(double... input) {
+        return squaredDeviation(input, 0, input.length);
+    }
+
+    public static double[] squaredDeviation(double[] input, int offset, int length) {
+        return squaredDeviation(input, offset, length, new double[length], 0);
+    }
+
+    public static double[] squaredDeviation(double[] input, int offset, int length, double[] destination, int destinationOffset) {
+        checkFromIndexSize(destinationOffset, length, destination.length);
+        KERNELS.squaredDeviation(input, offset, arithmeticMean(input, offset, length), destination, destinationOffset, length);
+        return destination;
+    }
+
+    public static double[] squaredDeviationInPlace(double[] input) {
+        return squaredDeviation(input, 0, input.length, input, 0);
+    }
+
+    public static double[] squaredDeviationInPlace(double[] input, int offset, int length) {
+        return squaredDeviation(input, offset, length, input, offset);
+    }
+
     public static double populationVariance(double... input) {
-        return arithmeticMean(square(deviation(input)));
+        return populationVariance(input, 0, input.length);
+    }
+
+    public static double populationVariance(double[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length)/length;
     }
 
     public static double populationStandardDeviation(double... input) {
         return sqrt(populationVariance(input));
     }
 
+    public static double populationStandardDeviation(double[] input, int offset, int length) {
+        return sqrt(populationVariance(input, offset, length));
+    }
+
     public static double sampleVariance(double... input) {
-        return sum(square(deviation(input)))/(input.length - 1);
+        return sampleVariance(input, 0, input.length);
+    }
+
+    public static double sampleVariance(double[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length)/(length - 1);
     }
 
     public static double sampleStandardDeviation(double... input) {
         return sqrt(sampleVariance(input));
     }
 
+    public static double sampleStandardDeviation(double[] input, int offset, int length) {
+        return sqrt(sampleVariance(input, offset, length));
+    }
+
+    public static double populationVariance(double[] input, NaNPolicy policy) {
+        return populationVariance(input, 0, input.length, policy);
+    }
+
+    public static double populationVariance(double[] input, int offset, int length, NaNPolicy policy) {
+        var sum = sum(input, offset, length);
+        var count = countToUse(input, offset, length, sum, policy);
+        return sumOfSquaredDeviations(input, offset, length, sum, count) / count;
+    }
+
+    public static double populationStandardDeviation(double[] input, NaNPolicy policy) {
+        return sqrt(populationVariance(input, policy));
+    }
+
+    public static double populationStandardDeviation(double[] input, int offset, int length, NaNPolicy policy) {
+        return sqrt(populationVariance(input, offset, length, policy));
+    }
+
+    public static double sampleVariance(double[] input, NaNPolicy policy) {
+        return sampleVariance(input, 0, input.length, policy);
+    }
+
+    public static double sampleVariance(double[] input, int offset, int length, NaNPolicy policy) {
+        var sum = sum(input, offset, length);
+        var count = countToUse(input, offset, length, sum, policy);
+        return sumOfSquaredDeviations(input, offset, length, sum, count) / (count - 1);
+    }
+
+    public static double sampleStandardDeviation(double[] input, NaNPolicy policy) {
+        return sqrt(sampleVariance(input, policy));
+    }
+
+    public static double sampleStandardDeviation(double[] input, int offset, int length, NaNPolicy policy) {
+        return sqrt(sampleVariance(input, offset, length, policy));
+    }
+
+    /*
+     * A sum that is not NaN proves there are no NaNs to handle, so the input
+     * is only scanned for them when the sum is NaN and the policy cares.
+     */
+    private static int countToUse(double[] input, int offset, int length, double sum, NaNPolicy policy) {
+        requireNonNull(policy);
+        if (sum == sum || policy == NaNPolicy.PROPAGATE) {
+            return length;
+        }
+        return policy.lengthToUse(length, length - KERNELS.countOfNaN(input, offset, length));
+    }
+
+    private static double sumOfSquaredDeviations(double[] input, int offset, int length, double sum, int count) {
+        if (count == length) {
+            return KERNELS.sumOfSquaredDeviations(input, offset, length, sum / length);
+        }
+        var mean = KERNELS.sumOfNonNaN(input, offset, length) / count;
+        return KERNELS.sumOfSquaredDeviationsOfNonNaN(input, offset, length, mean, count);
+    }
+
+    public static double parallelSum(double... input) {
+        return parallelSum(input, 0, input.length);
+    }
+
+    public static double parallelSum(double[] input, int offset, int length) {
+        if (length < PARALLEL_THRESHOLD) {
+            return sum(input, offset, length);
+        }
+        return parallelReduction(input, offset, length).sum();
+    }
+
+    public static double parallelArithmeticMean(double... input) {
+        return parallelArithmeticMean(input, 0, input.length);
+    }
+
+    public static double parallelArithmeticMean(double[] input, int offset, int length) {
+        if (length < PARALLEL_THRESHOLD) {
+            return arithmeticMean(input, offset, length);
+        }
+        return parallelReduction(input, offset, length).arithmeticMean();
+    }
+
+    public static double parallelPopulationVariance(double... input) {
+        return parallelPopulationVariance(input, 0, input.length);
+    }
+
+    public static double parallelPopulationVariance(double[] input, int offset, int length) {
+        if (length < PARALLEL_THRESHOLD) {
+            return populationVariance(input, offset, length);
+        }
+        return parallelReduction(input, offset, length).populationVariance();
+    }
+
+    public static double parallelPopulationStandardDeviation(double... input) {
+        return sqrt(parallelPopulationVariance(input));
+    }
+
+    public static double parallelPopulationStandardDeviation(double[] input, int offset, int length) {
+        return sqrt(parallelPopulationVariance(input, offset, length));
+    }
+
+    public static double parallelSampleVariance(double... input) {
+        return parallelSampleVariance(input, 0, input.length);
+    }
+
+    public static double parallelSampleVariance(double[] input, int offset, int length) {
+        if (length < PARALLEL_THRESHOLD) {
+            return sampleVariance(input, offset, length);
+        }
+        return parallelReduction(input, offset, length).sampleVariance();
+    }
+
+    public static double parallelSampleStandardDeviation(double... input) {
+        return sqrt(parallelSampleVariance(input));
+    }
+
+    public static double parallelSampleStandardDeviation(double[] input, int offset, int length) {
+        return sqrt(parallelSampleVariance(input, offset, length));
+    }
+
+    public static double parallelSum(double[] input, NaNPolicy policy) {
+        return parallelSum(input, 0, input.length, policy);
+    }
+
+    public static double parallelSum(double[] input, int offset, int length, NaNPolicy policy) {
+        requireNonNull(policy);
+        var sum = parallelSum(input, offset, length);
+        return sum == sum || policy == NaNPolicy.PROPAGATE ? sum : sum(input, offset, length, policy);
+    }
+
+    public static double parallelArithmeticMean(double[] input, NaNPolicy policy) {
+        return parallelArithmeticMean(input, 0, input.length, policy);
+    }
+
+    public static double parallelArithmeticMean(double[] input, int offset, int length, NaNPolicy policy) {
+        requireNonNull(policy);
+        var mean = parallelArithmeticMean(input, offset, length);
+        return mean == mean || policy == NaNPolicy.PROPAGATE ? mean : arithmeticMean(input, offset, length, policy);
+    }
+
+    public static double parallelPopulationVariance(double[] input, NaNPolicy policy) {
+        return parallelPopulationVariance(input, 0, input.length, policy);
+    }
+
+    public static double parallelPopulationVariance(double[] input, int offset, int length, NaNPolicy policy) {
+        requireNonNull(policy);
+        var variance = parallelPopulationVariance(input, offset, length);
+        return variance == variance || policy == NaNPolicy.PROPAGATE
+                ? variance
+                : populationVariance(input, offset, length, policy);
+    }
+
+    public static double parallelPopulationStandardDeviation(double[] input, NaNPolicy policy) {
+        return sqrt(parallelPopulationVariance(input, policy));
+    }
+
+    public static double parallelPopulationStandardDeviation(
+            double[] input, int offset, int length, NaNPolicy policy) {
+        return sqrt(parallelPopulationVariance(input, offset, length, policy));
+    }
+
+    public static double parallelSampleVariance(double[] input, NaNPolicy policy) {
+        return parallelSampleVariance(input, 0, input.length, policy);
+    }
+
+    public static double parallelSampleVariance(double[] input, int offset, int length, NaNPolicy policy) {
+        requireNonNull(policy);
+        var variance = parallelSampleVariance(input, offset, length);
+        return variance == variance || policy == NaNPolicy.PROPAGATE
+                ? variance
+                : sampleVariance(input, offset, length, policy);
+    }
+
+    public static double parallelSampleStandardDeviation(double[] input, NaNPolicy policy) {
+        return sqrt(parallelSampleVariance(input, policy));
+    }
+
+    public static double parallelSampleStandardDeviation(double[] input, int offset, int length, NaNPolicy policy) {
+        return sqrt(parallelSampleVariance(input, offset, length, policy));
+    }
+
+    private static RunningStatistic parallelReduction(double[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        return new ReductionTask(input, offset, offset + length).invoke();
+    }
+
+    /*
+     * Corrected two-pass algorithm: the kernel's correction term removes the
+     * rounding error left in the mean by the first pass, without allocating
+     * intermediate deviation or square arrays.
+     */
+    private static double sumOfSquaredDeviations(double[] input, int offset, int length) {
+        var mean = arithmeticMean(input, offset, length);
+        return KERNELS.sumOfSquaredDeviations(input, offset, length, mean);
+    }
+
     public static double median(double... input) {
-        var inputCopy = new double[input.length];
-        arraycopy(input, 0, inputCopy, 0, input.length);
-        sort(inputCopy);
-        var middleIndex = input.length / 2;
-        if (input.length % 2 == 0) {
-            return arithmeticMean(inputCopy[middleIndex], inputCopy[middleIndex - 1]);
-        }   
-        return inputCopy[middleIndex];
+        return median(input, 0, input.length);
     }
 
-    public static double[] subtractFromAll(double[] input, double constant) {
-        var result = new double[input.length];
-        for (var index = 0; index < input.length; ++index) {
-            result[index] = input[index] - constant;
+    public static double median(double[] input, int offset, int length) {
+        return median(input, offset, length, new double[length]);
+    }
+
+    public static double median(double[] input, double[] scratch) {
+        return median(input, 0, input.length, scratch);
+    }
+
+    public static double median(double[] input, int offset, int length, double[] scratch) {
+        return median(input, offset, length, scratch, NaNPolicy.PROPAGATE);
+    }
+
+    public static double median(double[] input, NaNPolicy policy) {
+        return median(input, 0, input.length, policy);
+    }
+
+    public static double median(double[] input, int offset, int length, NaNPolicy policy) {
+        return median(input, offset, length, new double[length], policy);
+    }
+
+    public static double median(double[] input, int offset, int length, double[] scratch, NaNPolicy policy) {
+        checkFromIndexSize(offset, length, input.length);
+        checkScratch(length, scratch);
+        requireNonNull(policy);
+        var count = Selection.copyWithNaNsLast(input, offset, length, scratch);
+        return Selection.median(scratch, 0, length, count, policy);
+    }
+
+    public static double quantile(double[] input, double p) {
+        return quantile(input, 0, input.length, p);
+    }
+
+    public static double quantile(double[] input, int offset, int length, double p) {
+        return quantile(input, offset, length, p, new double[length]);
+    }
+
+    public static double quantile(double[] input, double p, double[] scratch) {
+        return quantile(input, 0, input.length, p, scratch);
+    }
+
+    public static double quantile(double[] input, int offset, int length, double p, double[] scratch) {
+        return quantiles(input, offset, length, new double[] {p}, scratch)[0];
+    }
+
+    public static double[] quantiles(double[] input, double... ps) {
+        return quantiles(input, 0, input.length, ps);
+    }
+
+    public static double[] quantiles(double[] input, int offset, int length, double[] ps) {
+        return quantiles(input, offset, length, ps, new double[length]);
+    }
+
+    public static double[] quantiles(double[] input, double[] ps, double[] scratch) {
+        return quantiles(input, 0, input.length, ps, scratch);
+    }
+
+    public static double[] quantiles(double[] input, int offset, int length, double[] ps, double[] scratch) {
+        return quantiles(input, offset, length, ps, scratch, NaNPolicy.PROPAGATE);
+    }
+
+    public static double quantile(double[] input, double p, NaNPolicy policy) {
+        return quantile(input, 0, input.length, p, policy);
+    }
+
+    public static double quantile(double[] input, int offset, int length, double p, NaNPolicy policy) {
+        return quantiles(input, offset, length, new double[] {p}, new double[length], policy)[0];
+    }
+
+    public static double[] quantiles(double[] input, double[] ps, NaNPolicy policy) {
+        return quantiles(input, 0, input.length, ps, policy);
+    }
+
+    public static double[] quantiles(double[] input, int offset, int length, double[] ps, NaNPolicy policy) {
+        return quantiles(input, offset, length, ps, new double[length], policy);
+    }
+
+    public static double[] quantiles(
+            double[] input, int offset, int length, double[] ps, double[] scratch, NaNPolicy policy) {
+        checkFromIndexSize(offset, length, input.length);
+        checkProbabilities(ps);
+        checkScratch(length, scratch);
+        requireNonNull(policy);
+        var count = Selection.copyWithNaNsLast(input, offset, length, scratch);
+        var result = new double[ps.length];
+        Selection.quantiles(scratch, length, count, ps, result, policy);
+        return result;
+    }
+
+    public static SortedSample sorted(double... input) {
+        return sorted(input, 0, input.length);
+    }
+
+    public static SortedSample sorted(double[] input, int offset, int length) {
+        return sorted(input, offset, length, NaNPolicy.PROPAGATE);
+    }
+
+    public static SortedSample sorted(double[] input, NaNPolicy policy) {
+        return sorted(input, 0, input.length, policy);
+    }
+
+    /**
+     * Sorts a copy of the values once, for answering many order statistics.
+     */
+    public static SortedSample sorted(double[] input, int offset, int length, NaNPolicy policy) {
+        checkFromIndexSize(offset, length, input.length);
+        requireNonNull(policy);
+        var copy = new double[length];
+        System.arraycopy(input, offset, copy, 0, length);
+        return SortedSample.sorting(copy, length, policy);
+    }
+
+    public static double percentile(double[] input, double percent) {
+        return quantile(input, percent / 100D);
+    }
+
+    public static double percentile(double[] input, int offset, int length, double percent) {
+        return quantile(input, offset, length, percent / 100D);
+    }
+
+    private static void checkProbabilities(double[] ps) throws IllegalArgumentException {
+        for (var p : ps) {
+            if (!(p >= 0D && p <= 1D)) {
+                throw new IllegalArgumentException();
+            }
         }
+    }
+
+    private static void checkScratch(int length, double[] scratch) throws IllegalArgumentException {
+        if (scratch.length < length) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static double[] subtractFromAll(double[] input, double constant) {
+        return subtractFromAll(input, 0, input.length, constant);
+    }
+
+    public static double[] subtractFromAll(double[] input, int offset, int length, double constant) {
+        checkFromIndexSize(offset, length, input.length);
+        var result = new double[length];
+        KERNELS.subtract(input, offset, constant, result, 0, length);
         return result;
     }
+
+    public static double[] subtractFromAll(double[] input, int offset, int length, double constant,
+            double[] destination, int destinationOffset) {
+        checkFromIndexSize(offset, length, input.length);
+        checkFromIndexSize(destinationOffset, length, destination.length);
+        KERNELS.subtract(input, offset, constant, destination, destinationOffset, length);
+        return destination;
+    }
+
+    public static double[] subtractFromAllInPlace(double[] input, double constant) {
+        return subtractFromAll(input, 0, input.length, constant, input, 0);
+    }
+
+    public static double[] subtractFromAllInPlace(double[] input, int offset, int length, double constant) {
+        return subtractFromAll(input, offset, length, constant, input, offset);
+    }
+
+    public static double sum(float[] input) {
+        return sum(input, 0, input.length);
+    }
+
+    /**
+     * Returns the sum of {@code float} values accumulated in {@code double},
+     * so each addition rounds to a significand 29 bits wider than a
+     * {@code float} accumulator would.
+     */
+    public static double sum(float[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            sum += input[i];
+        }
+        return sum;
+    }
+
+    public static double arithmeticMean(float[] input) {
+        return arithmeticMean(input, 0, input.length);
+    }
+
+    public static double arithmeticMean(float[] input, int offset, int length) {
+        return sum(input, offset, length) / length;
+    }
+
+    public static double populationVariance(float[] input) {
+        return populationVariance(input, 0, input.length);
+    }
+
+    public static double populationVariance(float[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / length;
+    }
+
+    public static double populationStandardDeviation(float[] input) {
+        return sqrt(populationVariance(input));
+    }
+
+    public static double populationStandardDeviation(float[] input, int offset, int length) {
+        return sqrt(populationVariance(input, offset, length));
+    }
+
+    public static double sampleVariance(float[] input) {
+        return sampleVariance(input, 0, input.length);
+    }
+
+    public static double sampleVariance(float[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / (length - 1);
+    }
+
+    public static double sampleStandardDeviation(float[] input) {
+        return sqrt(sampleVariance(input));
+    }
+
+    public static double sampleStandardDeviation(float[] input, int offset, int length) {
+        return sqrt(sampleVariance(input, offset, length));
+    }
+
+    private static double sumOfSquaredDeviations(float[] input, int offset, int length) {
+        var mean = arithmeticMean(input, offset, length);
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            var deviation = input[i] - mean;
+            sumOfSquares += deviation * deviation;
+            sumOfDeviations += deviation;
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+    }
+
+    public static double median(float[] input) {
+        return median(input, 0, input.length);
+    }
+
+    public static double median(float[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var scratch = new float[length];
+        var count = Selection.copyWithNaNsLast(input, offset, length, scratch);
+        return count < length ? Double.NaN : Selection.median(scratch, length);
+    }
+
+    public static long sum(int[] input) {
+        return sum(input, 0, input.length);
+    }
+
+    /**
+     * Returns the sum of {@code int} values accumulated in {@code long},
+     * which cannot overflow for any array length.
+     */
+    public static long sum(int[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var sum = 0L;
+        for (var i = offset; i < offset + length; ++i) {
+            sum += input[i];
+        }
+        return sum;
+    }
+
+    public static double arithmeticMean(int[] input) {
+        return arithmeticMean(input, 0, input.length);
+    }
+
+    public static double arithmeticMean(int[] input, int offset, int length) {
+        return (double) sum(input, offset, length) / length;
+    }
+
+    public static double populationVariance(int[] input) {
+        return populationVariance(input, 0, input.length);
+    }
+
+    public static double populationVariance(int[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / length;
+    }
+
+    public static double populationStandardDeviation(int[] input) {
+        return sqrt(populationVariance(input));
+    }
+
+    public static double populationStandardDeviation(int[] input, int offset, int length) {
+        return sqrt(populationVariance(input, offset, length));
+    }
+
+    public static double sampleVariance(int[] input) {
+        return sampleVariance(input, 0, input.length);
+    }
+
+    public static double sampleVariance(int[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / (length - 1);
+    }
+
+    public static double sampleStandardDeviation(int[] input) {
+        return sqrt(sampleVariance(input));
+    }
+
+    public static double sampleStandardDeviation(int[] input, int offset, int length) {
+        return sqrt(sampleVariance(input, offset, length));
+    }
+
+    private static double sumOfSquaredDeviations(int[] input, int offset, int length) {
+        var mean = arithmeticMean(input, offset, length);
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            var deviation = input[i] - mean;
+            sumOfSquares += deviation * deviation;
+            sumOfDeviations += deviation;
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+    }
+
+    public static double median(int[] input) {
+        return median(input, 0, input.length);
+    }
+
+    public static double median(int[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var scratch = new int[length];
+        System.arraycopy(input, offset, scratch, 0, length);
+        return Selection.median(scratch, length);
+    }
+
+    public static long sum(long[] input) {
+        return sum(input, 0, input.length);
+    }
+
+    /**
+     * Returns the sum of {@code long} values.
+     *
+     * @throws ArithmeticException if the sum overflows a {@code long}
+     */
+    public static long sum(long[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var sum = 0L;
+        for (var i = offset; i < offset + length; ++i) {
+            sum = Math.addExact(sum, input[i]);
+        }
+        return sum;
+    }
+
+    public static double arithmeticMean(long[] input) {
+        return arithmeticMean(input, 0, input.length);
+    }
+
+    /*
+     * The high and low halves of the values are summed separately, so the
+     * total cannot overflow. They are combined with a single rounding while
+     * the high total is below 2^53 in magnitude; beyond that, converting it
+     * to double rounds as well.
+     */
+    public static double arithmeticMean(long[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var high = 0L;
+        var low = 0L;
+        for (var i = offset; i < offset + length; ++i) {
+            high += input[i] >> 32;
+            low += input[i] & 0xFFFF_FFFFL;
+        }
+        high += low >>> 32;
+        low &= 0xFFFF_FFFFL;
+        return Math.fma((double) high, 0x1p32, (double) low) / length;
+    }
+
+    public static double populationVariance(long[] input) {
+        return populationVariance(input, 0, input.length);
+    }
+
+    public static double populationVariance(long[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / length;
+    }
+
+    public static double populationStandardDeviation(long[] input) {
+        return sqrt(populationVariance(input));
+    }
+
+    public static double populationStandardDeviation(long[] input, int offset, int length) {
+        return sqrt(populationVariance(input, offset, length));
+    }
+
+    public static double sampleVariance(long[] input) {
+        return sampleVariance(input, 0, input.length);
+    }
+
+    public static double sampleVariance(long[] input, int offset, int length) {
+        return sumOfSquaredDeviations(input, offset, length) / (length - 1);
+    }
+
+    public static double sampleStandardDeviation(long[] input) {
+        return sqrt(sampleVariance(input));
+    }
+
+    public static double sampleStandardDeviation(long[] input, int offset, int length) {
+        return sqrt(sampleVariance(input, offset, length));
+    }
+
+    private static double sumOfSquaredDeviations(long[] input, int offset, int length) {
+        var mean = arithmeticMean(input, offset, length);
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            var deviation = input[i] - mean;
+            sumOfSquares += deviation * deviation;
+            sumOfDeviations += deviation;
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+    }
+
+    public static double median(long[] input) {
+        return median(input, 0, input.length);
+    }
+
+    public static double median(long[] input, int offset, int length) {
+        checkFromIndexSize(offset, length, input.length);
+        var scratch = new long[length];
+        System.arraycopy(input, offset, scratch, 0, length);
+        return Selection.median(scratch, length);
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.util.Objects.requireNonNull;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import static java.util.stream.Collector.Characteristics.UNORDERED;
+import java.util.stream.DoubleStream;
+
+/**
+ * Collectors and {@link DoubleStream} reductions for the statistics in
+ * {@link Statistic}, so that streams need not be turned into arrays first.
+ * The collectors of single statistics gather the values into an unboxed
+ * growable array and reduce it with {@link Statistic} itself, so they agree
+ * with it exactly; moments keep the encounter order, even on parallel
+ * streams, while medians and quantiles select in place and need not.
+ * <p>
+ * {@link #summarizing} and {@link #summarize} instead keep constant memory,
+ * updating a {@link RunningStatistic} one value at a time. For data whose
+ * spread is comparable to its magnitude, their moments agree with
+ * {@link Statistic} to within a relative error of {@code count} &times;
+ * 2<sup>-53</sup>. All of them may be used with parallel streams.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public final class StatisticCollectors {
+
+    private StatisticCollectors() {}
+
+    public static <T> Collector<T, ?, RunningStatistic> summarizing(ToDoubleFunction<? super T> mapper) {
+        requireNonNull(mapper);
+        return Collector.of(
+                RunningStatistic::new,
+                (statistic, element) -> statistic.accept(mapper.applyAsDouble(element)),
+                RunningStatistic::combine);
+    }
+
+    public static <T> Collector<T, ?, Double> sum(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::sum);
+    }
+
+    public static <T> Collector<T, ?, Double> arithmeticMean(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::arithmeticMean);
+    }
+
+    public static <T> Collector<T, ?, Double> populationVariance(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::populationVariance);
+    }
+
+    public static <T> Collector<T, ?, Double> populationStandardDeviation(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::populationStandardDeviation);
+    }
+
+    public static <T> Collector<T, ?, Double> sampleVariance(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::sampleVariance);
+    }
+
+    public static <T> Collector<T, ?, Double> sampleStandardDeviation(ToDoubleFunction<? super T> mapper) {
+        return moment(mapper, Statistic::sampleStandardDeviation);
+    }
+
+    private static <T> Collector<T, ?, Double> moment(ToDoubleFunction<? super T> mapper, SliceReduction moment) {
+        requireNonNull(mapper);
+        return Collector.of(
+                DoubleList::new,
+                (values, element) -> values.accept(mapper.applyAsDouble(element)),
+                DoubleList::addAll,
+                values -> moment.reduce(values.data(), 0, values.size()));
+    }
+
+    public static <T> Collector<T, ?, Double> median(ToDoubleFunction<? super T> mapper) {
+        return gathering(mapper, StatisticCollectors::median);
+    }
+
+    public static <T> Collector<T, ?, Double> quantile(ToDoubleFunction<? super T> mapper, double p) {
+        checkProbabilities(p);
+        return gathering(mapper, values -> quantiles(values, p)[0]);
+    }
+
+    public static <T> Collector<T, ?, double[]> quantiles(ToDoubleFunction<? super T> mapper, double... ps) {
+        var probabilities = ps.clone();
+        checkProbabilities(probabilities);
+        return gathering(mapper, values -> quantiles(values, probabilities));
+    }
+
+    private static <T, R> Collector<T, ?, R> gathering(
+            ToDoubleFunction<? super T> mapper, Function<DoubleList, R> finisher) {
+        requireNonNull(mapper);
+        return Collector.of(
+                DoubleList::new,
+                (values, element) -> values.accept(mapper.applyAsDouble(element)),
+                DoubleList::addAll,
+                finisher,
+                UNORDERED);
+    }
+
+    public static RunningStatistic summarize(DoubleStream stream) {
+        return stream.collect(RunningStatistic::new, RunningStatistic::accept, RunningStatistic::combine);
+    }
+
+    public static double median(DoubleStream stream) {
+        return median(gather(stream));
+    }
+
+    public static double quantile(DoubleStream stream, double p) {
+        checkProbabilities(p);
+        return quantiles(gather(stream), p)[0];
+    }
+
+    public static double[] quantiles(DoubleStream stream, double... ps) {
+        checkProbabilities(ps);
+        return quantiles(gather(stream), ps);
+    }
+
+    private static DoubleList gather(DoubleStream stream) {
+        return stream.collect(DoubleList::new, DoubleList::accept, DoubleList::addAll);
+    }
+
+    private static double median(DoubleList values) {
+        return Selection.medianInPlace(values.data(), 0, values.size(), NaNPolicy.PROPAGATE);
+    }
+
+    private static double[] quantiles(DoubleList values, double... ps) {
+        var count = Selection.moveNaNsLast(values.data(), 0, values.size());
+        var result = new double[ps.length];
+        Selection.quantiles(values.data(), values.size(), count, ps, result, NaNPolicy.PROPAGATE);
+        return result;
+    }
+
+    private static void checkProbabilities(double... ps) throws IllegalArgumentException {
+        for (var p : ps) {
+            if (!(p >= 0D && p <= 1D)) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
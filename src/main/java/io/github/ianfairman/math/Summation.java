@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.Kernels.KERNELS;
+import static java.lang.Math.abs;
+import static java.lang.Math.min;
+
+/**
+ * How {@link Statistic} adds up values for sums, means and variances. Methods
+ * given no summation use the kernels directly, which accumulate in several
+ * vector lanes at once; their error grows with the length of the input
+ * divided by the number of lanes. The strategies here trade some speed for
+ * a smaller error.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public enum Summation {
+
+    /**
+     * One accumulator, left to right. The error grows linearly with the
+     * length of the input.
+     */
+    NAIVE {
+        @Override
+        double sum(double[] data, int offset, int length) {
+            var sum = 0D;
+            for (var i = offset; i < offset + length; ++i) {
+                sum += data[i];
+            }
+            return sum;
+        }
+
+        @Override
+        double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+            var sumOfSquares = 0D;
+            var sumOfDeviations = 0D;
+            for (var i = offset; i < offset + length; ++i) {
+                var deviation = data[i] - mean;
+                sumOfSquares += deviation * deviation;
+                sumOfDeviations += deviation;
+            }
+            return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+        }
+    },
+
+    /**
+     * Neumaier's improvement of Kahan summation, which carries the rounding
+     * error of each addition forward. The error does not grow with the
+     * length of the input, but each value costs several dependent
+     * operations.
+     */
+    NEUMAIER {
+        @Override
+        double sum(double[] data, int offset, int length) {
+            var sum = 0D;
+            var compensation = 0D;
+            for (var i = offset; i < offset + length; ++i) {
+                var value = data[i];
+                var total = sum + value;
+                compensation += abs(sum) >= abs(value) ? (sum - total) + value : (value - total) + sum;
+                sum = total;
+            }
+            return sum + compensation;
+        }
+
+        @Override
+        double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+            var sumOfSquares = 0D;
+            var squaresCompensation = 0D;
+            var sumOfDeviations = 0D;
+            for (var i = offset; i < offset + length; ++i) {
+                var deviation = data[i] - mean;
+                var square = deviation * deviation;
+                var total = sumOfSquares + square;
+                squaresCompensation += sumOfSquares >= square
+                        ? (sumOfSquares - total) + square
+                        : (square - total) + sumOfSquares;
+                sumOfSquares = total;
+                sumOfDeviations += deviation;
+            }
+            sumOfSquares += squaresCompensation;
+            return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+        }
+    },
+
+    /**
+     * Recursive halving down to short runs added left to right. The error
+     * grows with the logarithm of the length of the input, at nearly the
+     * speed of one accumulator.
+     */
+    PAIRWISE {
+        @Override
+        double sum(double[] data, int offset, int length) {
+            if (length <= PAIRWISE_BLOCK) {
+                return NAIVE.sum(data, offset, length);
+            }
+            var half = length >>> 1;
+            return sum(data, offset, half) + sum(data, offset + half, length - half);
+        }
+
+        @Override
+        double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+            var sumOfDeviations = sumOfDeviations(data, offset, length, mean);
+            return sumOfSquares(data, offset, length, mean) - sumOfDeviations * sumOfDeviations / length;
+        }
+
+        private double sumOfSquares(double[] data, int offset, int length, double mean) {
+            if (length <= PAIRWISE_BLOCK) {
+                var sum = 0D;
+                for (var i = offset; i < offset + length; ++i) {
+                    var deviation = data[i] - mean;
+                    sum += deviation * deviation;
+                }
+                return sum;
+            }
+            var half = length >>> 1;
+            return sumOfSquares(data, offset, half, mean) + sumOfSquares(data, offset + half, length - half, mean);
+        }
+
+        private double sumOfDeviations(double[] data, int offset, int length, double mean) {
+            if (length <= PAIRWISE_BLOCK) {
+                var sum = 0D;
+                for (var i = offset; i < offset + length; ++i) {
+                    sum += data[i] - mean;
+                }
+                return sum;
+            }
+            var half = length >>> 1;
+            return sumOfDeviations(data, offset, half, mean)
+                    + sumOfDeviations(data, offset + half, length - half, mean);
+        }
+    },
+
+    /**
+     * Blocks short enough to stay in cache are added by the vector kernels
+     * and the block totals are added with Neumaier's compensation. The error
+     * depends on the block length rather than the length of the input, at
+     * close to the speed of the kernels.
+     */
+    BLOCKED {
+        @Override
+        double sum(double[] data, int offset, int length) {
+            var sum = 0D;
+            var compensation = 0D;
+            for (var from = offset; from < offset + length; from += BLOCK) {
+                var block = KERNELS.sum(data, from, min(BLOCK, offset + length - from));
+                var total = sum + block;
+                compensation += abs(sum) >= abs(block) ? (sum - total) + block : (block - total) + sum;
+                sum = total;
+            }
+            return sum + compensation;
+        }
+
+        /*
+         * The kernel corrects each block about its own mean, so the block's
+         * raw sum of squares about the overall mean is recovered from its
+         * sum of deviations before the blocks are combined. The deviations
+         * are summed directly, as subtracting the block's share of the mean
+         * from its sum would cancel when the values share a large offset.
+         */
+        @Override
+        double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+            var sumOfSquares = 0D;
+            var compensation = 0D;
+            var sumOfDeviations = 0D;
+            for (var from = offset; from < offset + length; from += BLOCK) {
+                var blockLength = min(BLOCK, offset + length - from);
+                var blockDeviations = KERNELS.sumOfDeviations(data, from, blockLength, mean);
+                var block = KERNELS.sumOfSquaredDeviations(data, from, blockLength, mean)
+                        + blockDeviations * blockDeviations / blockLength;
+                var total = sumOfSquares + block;
+                compensation += sumOfSquares >= block ? (sumOfSquares - total) + block : (block - total) + sumOfSquares;
+                sumOfSquares = total;
+                sumOfDeviations += blockDeviations;
+            }
+            sumOfSquares += compensation;
+            return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+        }
+    };
+
+    private static final int PAIRWISE_BLOCK = 128;
+    private static final int BLOCK = 1 << 10;
+
+    abstract double sum(double[] data, int offset, int length);
+
+    /**
+     * Returns the sum of squared deviations from {@code mean}, less the
+     * correction term that compensates for rounding error in the mean.
+     */
+    abstract double sumOfSquaredDeviations(double[] data, int offset, int length, double mean);
+}
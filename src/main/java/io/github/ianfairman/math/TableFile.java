@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static io.github.ianfairman.math.SegmentStorage.CELL;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import java.nio.file.Path;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The binary table format: a sixteen byte header of four little-endian ints
+ * (magic number, version, number of rows, number of columns) followed by the
+ * cells, row after row, as little-endian doubles. The header length keeps the
+ * cells eight-byte aligned when the file is mapped.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class TableFile {
+
+    static final int MAGIC = 0x545A4546;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private TableFile() {}
+
+    static TableStorage map(Path file, Arena arena) throws IOException {
+        try (var channel = FileChannel.open(file, READ)) {
+            var header = readHeader(channel);
+            var numberOfRows = header.getInt(2 * Integer.BYTES);
+            var numberOfColumns = header.getInt(3 * Integer.BYTES);
+            var size = HEADER_SIZE + (long) numberOfRows * numberOfColumns * Double.BYTES;
+            if (channel.size() != size) {
+                throw new IOException("Unexpected length for table file " + file);
+            }
+            var segment = channel.map(READ_ONLY, 0, size, arena).asSlice(HEADER_SIZE);
+            return new SegmentStorage(segment, numberOfRows, numberOfColumns);
+        }
+    }
+
+    /**
+     * Reads a table file onto the heap through a fixed buffer, for tables
+     * that will be read too often to leave mapped.
+     */
+    static RowMajorStorage read(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, READ)) {
+            var header = readHeader(channel);
+            var numberOfRows = header.getInt(2 * Integer.BYTES);
+            var numberOfColumns = header.getInt(3 * Integer.BYTES);
+            if (channel.size() != HEADER_SIZE + (long) numberOfRows * numberOfColumns * Double.BYTES) {
+                throw new IOException("Unexpected length for table file " + file);
+            }
+            var data = new double[TableStorage.size(numberOfRows, numberOfColumns)];
+            var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(CELL.order());
+            var cells = 0;
+            while (cells < data.length) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Truncated table file " + file);
+                }
+                buffer.flip();
+                var available = buffer.remaining() / Double.BYTES;
+                buffer.asDoubleBuffer().get(data, cells, available);
+                cells += available;
+                buffer.position(available * Double.BYTES).compact();
+            }
+            return new RowMajorStorage(data, numberOfRows, numberOfColumns);
+        }
+    }
+
+    static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException("Truncated table file header");
+            }
+        }
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a table file");
+        }
+        if (header.getInt(2 * Integer.BYTES) < 1 || header.getInt(3 * Integer.BYTES) < 1) {
+            throw new IOException("Table file has no cells");
+        }
+        return header;
+    }
+
+    static void write(TableStorage storage, Path file) throws IOException {
+        try (var channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            var buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(CELL.order());
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(storage.numberOfRows())
+                    .putInt(storage.numberOfColumns());
+            for (var row = 0; row < storage.numberOfRows(); ++row) {
+                for (var column = 0; column < storage.numberOfColumns(); ++column) {
+                    if (!buffer.hasRemaining()) {
+                        drain(buffer, channel);
+                    }
+                    buffer.putDouble(storage.get(row, column));
+                }
+            }
+            drain(buffer, channel);
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
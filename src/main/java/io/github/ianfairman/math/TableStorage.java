@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+/**
+ * Backing store for the cells of a {@link TwoWayTable}.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+interface TableStorage {
+
+    /**
+     * Side of the square tiles used when transposing, chosen so that a source
+     * and a destination tile fit in the level one cache together.
+     */
+    int TILE = 32;
+
+    int numberOfRows();
+
+    int numberOfColumns();
+
+    double get(int row, int column);
+
+    /**
+     * Returns the cells of a row, either as a copy or, where the storage holds
+     * the row as an array of its own, as that array.
+     */
+    default double[] row(int row) {
+        var result = new double[numberOfColumns()];
+        copyRow(row, result, 0);
+        return result;
+    }
+
+    void copyRow(int row, double[] destination, int offset);
+
+    void copyColumn(int column, double[] destination, int offset);
+
+    /**
+     * Copies the columns in {@code [fromColumn, toColumn)} into
+     * {@code destination} column after column, transposing tile by tile.
+     */
+    default void copyColumns(int fromColumn, int toColumn, double[] destination) {
+        var numberOfRows = numberOfRows();
+        for (var rowTile = 0; rowTile < numberOfRows; rowTile += TILE) {
+            var rowEnd = Math.min(rowTile + TILE, numberOfRows);
+            for (var columnTile = fromColumn; columnTile < toColumn; columnTile += TILE) {
+                var columnEnd = Math.min(columnTile + TILE, toColumn);
+                for (var row = rowTile; row < rowEnd; ++row) {
+                    for (var column = columnTile; column < columnEnd; ++column) {
+                        destination[(column - fromColumn) * numberOfRows + row] = get(row, column);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cells in a table of the given shape, provided they
+     * fit in a single array.
+     */
+    static int size(int numberOfRows, int numberOfColumns) throws IllegalArgumentException {
+        var size = (long) numberOfRows * numberOfColumns;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException();
+        }
+        return (int) size;
+    }
+}
@@ -15,25 +15,145 @@
  */
 package io.github.ianfairman.math;
 
-import static io.github.ianfairman.math.Statistic.median;
+import java.io.IOException;
+import static java.lang.Math.sqrt;
+import java.lang.foreign.Arena;
+import java.nio.file.Path;
 import java.util.Arrays;
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
+import java.util.function.ToDoubleFunction;
 
 /**
+ * A rectangular table of doubles. Tables made with a constructor compute
+ * every derived result afresh on each call; the jagged constructor reads the
+ * caller's array directly, so later writes to it show through. Immutable
+ * tables, made by {@link #copyOf}, {@link #immutableCopy} or a
+ * {@link Builder}, own their cells and compute their medians, summaries and
+ * hash code once, on first use.
  *
  * @author Ian Fairman <ian.fairman@gmail.com>
  */
 public class TwoWayTable {
 
-    private final double[][] array;
+    public enum Layout {
+        ROW_MAJOR,
+        COLUMN_MAJOR
+    }
+
+    private static final int COLUMN_BLOCK_CELLS = 1 << 15;
+
+    private final TableStorage storage;
+    private final boolean immutable;
+
+    /*
+     * Derived results of an immutable table. Each is computed at most a few
+     * times under a race and published through the volatile write, so a
+     * reader sees either null or a complete result. The cached arrays are
+     * never handed out; callers get copies.
+     */
+    private volatile double[] mediansOfRows;
+    private volatile double[] mediansOfColumns;
+    private volatile RunningStatistic[] summaryOfRows;
+    private volatile RunningStatistic[] summaryOfColumns;
+    private int hash;
+    private boolean hashIsZero;
     
     public TwoWayTable(double[][] array) {
         requireNonNull(array);
         checkIsRectangular(array);
-        this.array = array;
+        this.storage = new JaggedStorage(array);
+        this.immutable = false;
+    }
+
+    public TwoWayTable(double[][] array, Layout layout) {
+        requireNonNull(array);
+        requireNonNull(layout);
+        checkIsRectangular(array);
+        this.storage = switch (layout) {
+            case ROW_MAJOR -> RowMajorStorage.copyOf(array);
+            case COLUMN_MAJOR -> ColumnMajorStorage.copyOf(array);
+        };
+        this.immutable = false;
+    }
+
+    private TwoWayTable(TableStorage storage, boolean immutable) {
+        this.storage = storage;
+        this.immutable = immutable;
+    }
+
+    /**
+     * Returns an immutable table over storage that nothing else refers to.
+     */
+    static TwoWayTable over(TableStorage storage) {
+        return new TwoWayTable(storage, true);
+    }
+
+    public static TwoWayTable copyOf(double[][] array) {
+        return copyOf(array, Layout.ROW_MAJOR);
+    }
+
+    public static TwoWayTable copyOf(double[][] array, Layout layout) {
+        return over(new TwoWayTable(array, layout).storage);
+    }
+
+    public static Builder builder(int numberOfRows, int numberOfColumns) {
+        return new Builder(numberOfRows, numberOfColumns);
+    }
+
+    public static TwoWayTable forRowAccess(double[][] array) {
+        return new TwoWayTable(array, Layout.ROW_MAJOR);
+    }
+
+    public static TwoWayTable forColumnAccess(double[][] array) {
+        return new TwoWayTable(array, Layout.COLUMN_MAJOR);
+    }
+
+    /**
+     * Maps a table written by {@link #writeTo(Path)} without reading it onto
+     * the heap. The table is usable until the arena is closed; use a shared
+     * arena if it is to be read from more than one thread.
+     */
+    public static TwoWayTable map(Path file, Arena arena) throws IOException {
+        requireNonNull(file);
+        requireNonNull(arena);
+        return new TwoWayTable(TableFile.map(file, arena), false);
+    }
+
+    /**
+     * Reads a table written by {@link #writeTo(Path)} onto the heap.
+     */
+    public static TwoWayTable read(Path file) throws IOException {
+        requireNonNull(file);
+        return over(TableFile.read(file));
+    }
+
+    public static TwoWayTable readCsv(Path file) throws IOException {
+        return readDelimited(file, ',', 0);
+    }
+
+    public static TwoWayTable readTsv(Path file) throws IOException {
+        return readDelimited(file, '\t', 0);
+    }
+
+    /**
+     * Reads a table of numbers separated by an ASCII delimiter, one record per
+     * line, after skipping the given number of header lines. An empty field
+     * is read as NaN.
+     *
+     * @throws IOException if a field is not a number or a record has a
+     * different number of fields from the first
+     */
+    public static TwoWayTable readDelimited(Path file, char delimiter, int headerLines) throws IOException {
+        requireNonNull(file);
+        return over(DelimitedFile.read(file, delimiter, headerLines));
+    }
+
+    public void writeTo(Path file) throws IOException {
+        TableFile.write(storage, file);
     }
 
-    private void checkIsRectangular(double[][] array) throws IllegalArgumentException {
+    private static void checkIsRectangular(double[][] array) throws IllegalArgumentException {
         var firstLength = array[0].length;
         for(var i = 1; i < array.length; ++i) {
             if (firstLength != array[i].length) {
@@ -42,57 +162,467 @@ public class TwoWayTable {
         }
     }
 
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    /**
+     * Returns this table if it is immutable, otherwise an immutable copy.
+     */
+    public TwoWayTable immutableCopy() {
+        if (immutable) {
+            return this;
+        }
+        return over(new RowMajorStorage(copyOfCells(), numberOfRows(), numberOfColumns()));
+    }
+
+    /**
+     * Returns a builder starting from the cells of this table. The builder
+     * shares the cells of an immutable table until its first change.
+     */
+    public Builder toBuilder() {
+        if (immutable && storage instanceof RowMajorStorage rowMajor) {
+            return new Builder(rowMajor.data(), numberOfRows(), numberOfColumns(), true);
+        }
+        return new Builder(copyOfCells(), numberOfRows(), numberOfColumns(), false);
+    }
+
+    private double[] copyOfCells() {
+        var data = new double[TableStorage.size(numberOfRows(), numberOfColumns())];
+        for (var row = 0; row < numberOfRows(); ++row) {
+            storage.copyRow(row, data, row * numberOfColumns());
+        }
+        return data;
+    }
+
     public int numberOfRows() {
-        return array.length;
+        return storage.numberOfRows();
     }
     
     public int numberOfColumns() {
-        return array[0].length;
+        return storage.numberOfColumns();
+    }
+
+    /**
+     * Returns the cell at the given row and column. The indices are checked
+     * here rather than by the storage, since a flat layout would otherwise
+     * read a neighbouring row or column for an index just out of range.
+     */
+    public double get(int row, int column) {
+        checkIndex(row, numberOfRows());
+        checkIndex(column, numberOfColumns());
+        return storage.get(row, column);
     }
 
     public double[] row(int i) {
-        return array[i];
+        checkIndex(i, numberOfRows());
+        return storage.row(i);
     }
 
     public double[] column(int columnIndex) {
+        checkIndex(columnIndex, numberOfColumns());
         var result = new double[numberOfRows()];
-        for (var rowIndex = 0; rowIndex < numberOfRows(); ++rowIndex) {
-            result[rowIndex] = array[rowIndex][columnIndex];
-        }
+        storage.copyColumn(columnIndex, result, 0);
         return result;
     }
 
     public double medianOfRow(int i) {
-        return median(row(i));
+        return medianOfRow(i, NaNPolicy.PROPAGATE);
     }
 
     public double medianOfColumn(int i) {
-        return median(column(i));
+        return medianOfColumn(i, NaNPolicy.PROPAGATE);
+    }
+
+    public double medianOfRow(int i, NaNPolicy policy) {
+        requireNonNull(policy);
+        return medianOfRow(i, new double[numberOfColumns()], policy);
+    }
+
+    public double medianOfColumn(int i, NaNPolicy policy) {
+        requireNonNull(policy);
+        return medianOfColumn(i, new double[numberOfRows()], policy);
+    }
+
+    double medianOfRow(int i, double[] scratch, NaNPolicy policy) {
+        checkIndex(i, numberOfRows());
+        storage.copyRow(i, scratch, 0);
+        return Selection.medianInPlace(scratch, 0, numberOfColumns(), policy);
+    }
+
+    double medianOfColumn(int i, double[] scratch, NaNPolicy policy) {
+        checkIndex(i, numberOfColumns());
+        storage.copyColumn(i, scratch, 0);
+        return Selection.medianInPlace(scratch, 0, numberOfRows(), policy);
+    }
+
+    public SortedSample sortedRow(int i) {
+        return sortedRow(i, NaNPolicy.PROPAGATE);
+    }
+
+    public SortedSample sortedColumn(int i) {
+        return sortedColumn(i, NaNPolicy.PROPAGATE);
+    }
+
+    public SortedSample sortedRow(int i, NaNPolicy policy) {
+        requireNonNull(policy);
+        checkIndex(i, numberOfRows());
+        var values = new double[numberOfColumns()];
+        storage.copyRow(i, values, 0);
+        return SortedSample.sorting(values, values.length, policy);
+    }
+
+    public SortedSample sortedColumn(int i, NaNPolicy policy) {
+        requireNonNull(policy);
+        return SortedSample.sorting(column(i), numberOfRows(), policy);
     }
 
     public double[] mediansOfRows() {
+        if (!immutable) {
+            return computeMediansOfRows(NaNPolicy.PROPAGATE);
+        }
+        var result = mediansOfRows;
+        if (result == null) {
+            mediansOfRows = result = computeMediansOfRows(NaNPolicy.PROPAGATE);
+        }
+        return result.clone();
+    }
+
+    /**
+     * Returns the median of every row, treating NaNs as the policy says. Only
+     * the medians under the default policy are cached.
+     */
+    public double[] mediansOfRows(NaNPolicy policy) {
+        requireNonNull(policy);
+        return policy == NaNPolicy.PROPAGATE ? mediansOfRows() : computeMediansOfRows(policy);
+    }
+
+    private double[] computeMediansOfRows(NaNPolicy policy) {
         double[] medians = new double[numberOfRows()];
+        var scratch = new double[numberOfColumns()];
         for (var rowIndex = 0; rowIndex < numberOfRows(); ++rowIndex) {
-            medians[rowIndex] = medianOfRow(rowIndex);
+            medians[rowIndex] = medianOfRow(rowIndex, scratch, policy);
         }
         return medians;
     }
 
     public double[] mediansOfColumns() {
-        double[] medians = new double[numberOfColumns()];
-        for (var columnIndex = 0; columnIndex < numberOfColumns(); ++columnIndex) {
-            medians[columnIndex] = medianOfColumn(columnIndex);
+        if (!immutable) {
+            return computeMediansOfColumns(NaNPolicy.PROPAGATE);
+        }
+        var result = mediansOfColumns;
+        if (result == null) {
+            mediansOfColumns = result = computeMediansOfColumns(NaNPolicy.PROPAGATE);
+        }
+        return result.clone();
+    }
+
+    public double[] mediansOfColumns(NaNPolicy policy) {
+        requireNonNull(policy);
+        return policy == NaNPolicy.PROPAGATE ? mediansOfColumns() : computeMediansOfColumns(policy);
+    }
+
+    private double[] computeMediansOfColumns(NaNPolicy policy) {
+        return reduceColumns((data, offset, length) -> Selection.medianInPlace(data, offset, length, policy));
+    }
+
+    /**
+     * Applies a reduction, which may reorder its input, to every column. The
+     * columns are transposed a block at a time into a contiguous buffer so
+     * that the reduction reads them sequentially.
+     */
+    double[] reduceColumns(SliceReduction reduction) {
+        var result = new double[numberOfColumns()];
+        if (result.length == 0) {
+            return result;
+        }
+        var buffer = new double[columnBlockWidth() * numberOfRows()];
+        reduceColumns(reduction, 0, numberOfColumns(), result, buffer);
+        return result;
+    }
+
+    void reduceColumns(SliceReduction reduction, int fromColumn, int toColumn, double[] result, double[] buffer) {
+        var numberOfRows = numberOfRows();
+        var width = buffer.length / numberOfRows;
+        for (var blockStart = fromColumn; blockStart < toColumn; blockStart += width) {
+            var blockEnd = Math.min(blockStart + width, toColumn);
+            storage.copyColumns(blockStart, blockEnd, buffer);
+            for (var column = blockStart; column < blockEnd; ++column) {
+                result[column] = reduction.reduce(buffer, (column - blockStart) * numberOfRows, numberOfRows);
+            }
+        }
+    }
+
+    int columnBlockWidth() {
+        return Math.clamp(COLUMN_BLOCK_CELLS / numberOfRows(), 1, numberOfColumns());
+    }
+
+    public double[] parallelMediansOfRows() {
+        var cached = mediansOfRows;
+        if (cached != null) {
+            return cached.clone();
+        }
+        var medians = parallelMedians(true, NaNPolicy.PROPAGATE);
+        if (immutable) {
+            mediansOfRows = medians.clone();
+        }
+        return medians;
+    }
+
+    public double[] parallelMediansOfColumns() {
+        var cached = mediansOfColumns;
+        if (cached != null) {
+            return cached.clone();
+        }
+        var medians = parallelMedians(false, NaNPolicy.PROPAGATE);
+        if (immutable) {
+            mediansOfColumns = medians.clone();
         }
         return medians;
     }
 
+    public double[] parallelMediansOfRows(NaNPolicy policy) {
+        requireNonNull(policy);
+        return policy == NaNPolicy.PROPAGATE ? parallelMediansOfRows() : parallelMedians(true, policy);
+    }
+
+    public double[] parallelMediansOfColumns(NaNPolicy policy) {
+        requireNonNull(policy);
+        return policy == NaNPolicy.PROPAGATE ? parallelMediansOfColumns() : parallelMedians(false, policy);
+    }
+
+    private double[] parallelMedians(boolean rows, NaNPolicy policy) {
+        if ((long) numberOfRows() * numberOfColumns() < Statistic.PARALLEL_THRESHOLD) {
+            return rows ? computeMediansOfRows(policy) : computeMediansOfColumns(policy);
+        }
+        var medians = new double[rows ? numberOfRows() : numberOfColumns()];
+        new MedianTask(this, rows, policy, medians, 0, medians.length).invoke();
+        return medians;
+    }
+
+    public double[] sumsOfRows() {
+        return immutable ? each(rowSummaries(), RunningStatistic::sum) : reduceRows(Statistic::sum);
+    }
+
+    public double[] sumsOfColumns() {
+        return immutable ? each(columnSummaries(), RunningStatistic::sum) : reduceColumns(Statistic::sum);
+    }
+
+    public double[] arithmeticMeansOfRows() {
+        var result = sumsOfRows();
+        for (var row = 0; row < result.length; ++row) {
+            result[row] /= numberOfColumns();
+        }
+        return result;
+    }
+
+    public double[] arithmeticMeansOfColumns() {
+        var result = sumsOfColumns();
+        for (var column = 0; column < result.length; ++column) {
+            result[column] /= numberOfRows();
+        }
+        return result;
+    }
+
+    public double[] populationVariancesOfRows() {
+        return immutable
+                ? each(rowSummaries(), RunningStatistic::populationVariance)
+                : reduceRows(Statistic::populationVariance);
+    }
+
+    public double[] populationVariancesOfColumns() {
+        return immutable
+                ? each(columnSummaries(), RunningStatistic::populationVariance)
+                : reduceColumns(Statistic::populationVariance);
+    }
+
+    public double[] sampleVariancesOfRows() {
+        return immutable
+                ? each(rowSummaries(), RunningStatistic::sampleVariance)
+                : reduceRows(Statistic::sampleVariance);
+    }
+
+    public double[] sampleVariancesOfColumns() {
+        return immutable
+                ? each(columnSummaries(), RunningStatistic::sampleVariance)
+                : reduceColumns(Statistic::sampleVariance);
+    }
+
+    public double[] populationStandardDeviationsOfRows() {
+        return squareRoots(populationVariancesOfRows());
+    }
+
+    public double[] populationStandardDeviationsOfColumns() {
+        return squareRoots(populationVariancesOfColumns());
+    }
+
+    public double[] sampleStandardDeviationsOfRows() {
+        return squareRoots(sampleVariancesOfRows());
+    }
+
+    public double[] sampleStandardDeviationsOfColumns() {
+        return squareRoots(sampleVariancesOfColumns());
+    }
+
+    public RunningStatistic[] summaryOfRows() {
+        return copiesOf(rowSummaries());
+    }
+
+    public RunningStatistic[] summaryOfColumns() {
+        return copiesOf(columnSummaries());
+    }
+
+    private RunningStatistic[] rowSummaries() {
+        if (!immutable) {
+            return computeSummaryOfRows();
+        }
+        var result = summaryOfRows;
+        if (result == null) {
+            summaryOfRows = result = computeSummaryOfRows();
+        }
+        return result;
+    }
+
+    private RunningStatistic[] columnSummaries() {
+        if (!immutable) {
+            return computeSummaryOfColumns();
+        }
+        var result = summaryOfColumns;
+        if (result == null) {
+            summaryOfColumns = result = computeSummaryOfColumns();
+        }
+        return result;
+    }
+
+    private RunningStatistic[] copiesOf(RunningStatistic[] summaries) {
+        if (!immutable) {
+            return summaries;
+        }
+        var result = new RunningStatistic[summaries.length];
+        for (var i = 0; i < summaries.length; ++i) {
+            result[i] = new RunningStatistic().combine(summaries[i]);
+        }
+        return result;
+    }
+
+    private RunningStatistic[] computeSummaryOfRows() {
+        var result = new RunningStatistic[numberOfRows()];
+        var scratch = new double[numberOfColumns()];
+        for (var row = 0; row < result.length; ++row) {
+            storage.copyRow(row, scratch, 0);
+            result[row] = new RunningStatistic();
+            result[row].accept(scratch, 0, scratch.length);
+        }
+        return result;
+    }
+
+    /*
+     * Summarises the columns from the same transposed blocks that
+     * reduceColumns uses, so each column goes through the kernels just as
+     * a row does.
+     */
+    private RunningStatistic[] computeSummaryOfColumns() {
+        var numberOfRows = numberOfRows();
+        var result = new RunningStatistic[numberOfColumns()];
+        if (result.length == 0) {
+            return result;
+        }
+        var width = columnBlockWidth();
+        var buffer = new double[width * numberOfRows];
+        for (var blockStart = 0; blockStart < result.length; blockStart += width) {
+            var blockEnd = Math.min(blockStart + width, result.length);
+            storage.copyColumns(blockStart, blockEnd, buffer);
+            for (var column = blockStart; column < blockEnd; ++column) {
+                result[column] = new RunningStatistic();
+                result[column].accept(buffer, (column - blockStart) * numberOfRows, numberOfRows);
+            }
+        }
+        return result;
+    }
+
+    private double[] reduceRows(SliceReduction reduction) {
+        var result = new double[numberOfRows()];
+        var scratch = new double[numberOfColumns()];
+        for (var row = 0; row < result.length; ++row) {
+            storage.copyRow(row, scratch, 0);
+            result[row] = reduction.reduce(scratch, 0, scratch.length);
+        }
+        return result;
+    }
+
+    private static double[] squareRoots(double[] variances) {
+        for (var i = 0; i < variances.length; ++i) {
+            variances[i] = sqrt(variances[i]);
+        }
+        return variances;
+    }
+
+    private static double[] each(RunningStatistic[] summary, ToDoubleFunction<RunningStatistic> statistic) {
+        var result = new double[summary.length];
+        for (var i = 0; i < summary.length; ++i) {
+            result[i] = statistic.applyAsDouble(summary[i]);
+        }
+        return result;
+    }
+
+    public MedianPolish medianPolish() {
+        return medianPolish(NaNPolicy.PROPAGATE);
+    }
+
+    public MedianPolish medianPolish(NaNPolicy policy) {
+        return medianPolish(MedianPolish.DEFAULT_MAXIMUM_ITERATIONS, MedianPolish.DEFAULT_TOLERANCE, policy);
+    }
+
+    public MedianPolish medianPolish(int maximumIterations, double tolerance) {
+        return medianPolish(maximumIterations, tolerance, NaNPolicy.PROPAGATE);
+    }
+
+    public MedianPolish medianPolish(int maximumIterations, double tolerance, NaNPolicy policy) {
+        requireNonNull(policy);
+        return MedianPolish.of(storage, maximumIterations, tolerance, policy);
+    }
+
     @Override
     public int hashCode() {
+        if (!immutable) {
+            return computeHashCode();
+        }
+        var result = hash;
+        if (result == 0 && !hashIsZero) {
+            result = computeHashCode();
+            if (result == 0) {
+                hashIsZero = true;
+            } else {
+                hash = result;
+            }
+        }
+        return result;
+    }
+
+    private int computeHashCode() {
         int hash = 3;
-        hash = 53 * hash + Arrays.deepHashCode(this.array);
+        hash = 53 * hash + deepHashCode();
         return hash;
     }
 
+    /*
+     * Same value as Arrays.deepHashCode over the rows, whatever the layout.
+     */
+    private int deepHashCode() {
+        if (storage instanceof JaggedStorage jagged) {
+            return Arrays.deepHashCode(jagged.array());
+        }
+        var result = 1;
+        for (var row = 0; row < numberOfRows(); ++row) {
+            var rowHash = 1;
+            for (var column = 0; column < numberOfColumns(); ++column) {
+                rowHash = 31 * rowHash + Double.hashCode(storage.get(row, column));
+            }
+            result = 31 * result + rowHash;
+        }
+        return result;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -105,6 +635,111 @@ public class TwoWayTable {
             return false;
         }
         final TwoWayTable other = (TwoWayTable) obj;
-        return Arrays.deepEquals(this.array, other.array);
+        if (storage instanceof JaggedStorage jagged && other.storage instanceof JaggedStorage otherJagged) {
+            return Arrays.deepEquals(jagged.array(), otherJagged.array());
+        }
+        if (numberOfRows() != other.numberOfRows() || numberOfColumns() != other.numberOfColumns()) {
+            return false;
+        }
+        if (immutable && other.immutable && hashCode() != other.hashCode()) {
+            return false;
+        }
+        for (var row = 0; row < numberOfRows(); ++row) {
+            for (var column = 0; column < numberOfColumns(); ++column) {
+                var value = Double.doubleToLongBits(storage.get(row, column));
+                if (value != Double.doubleToLongBits(other.storage.get(row, column))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects cells for an immutable table. Each {@link #build} shares the
+     * builder's cells with the new table, and the next change copies them
+     * first, so tables already built never see later changes.
+     */
+    public static final class Builder {
+
+        private double[] data;
+        private final int numberOfRows;
+        private final int numberOfColumns;
+        private boolean shared;
+
+        private Builder(int numberOfRows, int numberOfColumns) {
+            if (numberOfRows < 1 || numberOfColumns < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.data = new double[TableStorage.size(numberOfRows, numberOfColumns)];
+            this.numberOfRows = numberOfRows;
+            this.numberOfColumns = numberOfColumns;
+        }
+
+        private Builder(double[] data, int numberOfRows, int numberOfColumns, boolean shared) {
+            this.data = data;
+            this.numberOfRows = numberOfRows;
+            this.numberOfColumns = numberOfColumns;
+            this.shared = shared;
+        }
+
+        public int numberOfRows() {
+            return numberOfRows;
+        }
+
+        public int numberOfColumns() {
+            return numberOfColumns;
+        }
+
+        public double get(int row, int column) {
+            return data[index(row, column)];
+        }
+
+        public Builder set(int row, int column, double value) {
+            var index = index(row, column);
+            unshare();
+            data[index] = value;
+            return this;
+        }
+
+        public Builder setRow(int row, double... values) {
+            checkIndex(row, numberOfRows);
+            if (values.length != numberOfColumns) {
+                throw new IllegalArgumentException();
+            }
+            unshare();
+            System.arraycopy(values, 0, data, row * numberOfColumns, numberOfColumns);
+            return this;
+        }
+
+        public Builder setColumn(int column, double... values) {
+            checkIndex(column, numberOfColumns);
+            if (values.length != numberOfRows) {
+                throw new IllegalArgumentException();
+            }
+            unshare();
+            for (int row = 0, index = column; row < numberOfRows; ++row, index += numberOfColumns) {
+                data[index] = values[row];
+            }
+            return this;
+        }
+
+        public TwoWayTable build() {
+            shared = true;
+            return over(new RowMajorStorage(data, numberOfRows, numberOfColumns));
+        }
+
+        private int index(int row, int column) {
+            checkIndex(row, numberOfRows);
+            checkIndex(column, numberOfColumns);
+            return row * numberOfColumns + column;
+        }
+
+        private void unshare() {
+            if (shared) {
+                data = data.clone();
+                shared = false;
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import jdk.incubator.vector.DoubleVector;
+import static jdk.incubator.vector.VectorOperators.ADD;
+import static jdk.incubator.vector.VectorOperators.IS_NAN;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels using the preferred vector species of the platform. Only loaded
+ * reflectively by {@link Kernels}, so the rest of the library does not need
+ * the incubator module at run time.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+final class VectorKernels implements Kernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public double sum(double[] data, int offset, int length) {
+        var accumulator = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            accumulator = accumulator.add(DoubleVector.fromArray(SPECIES, data, offset + i));
+        }
+        var sum = accumulator.reduceLanes(ADD);
+        for (; i < length; ++i) {
+            sum += data[offset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfDeviations(double[] data, int offset, int length, double mean) {
+        var means = DoubleVector.broadcast(SPECIES, mean);
+        var accumulator = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            accumulator = accumulator.add(DoubleVector.fromArray(SPECIES, data, offset + i).sub(means));
+        }
+        var sum = accumulator.reduceLanes(ADD);
+        for (; i < length; ++i) {
+            sum += data[offset + i] - mean;
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquaredDeviations(double[] data, int offset, int length, double mean) {
+        var means = DoubleVector.broadcast(SPECIES, mean);
+        var squares = DoubleVector.zero(SPECIES);
+        var deviations = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            var deviation = DoubleVector.fromArray(SPECIES, data, offset + i).sub(means);
+            squares = deviation.fma(deviation, squares);
+            deviations = deviations.add(deviation);
+        }
+        var sumOfSquares = squares.reduceLanes(ADD);
+        var sumOfDeviations = deviations.reduceLanes(ADD);
+        for (; i < length; ++i) {
+            var deviation = data[offset + i] - mean;
+            sumOfSquares += deviation * deviation;
+            sumOfDeviations += deviation;
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / length;
+    }
+
+    @Override
+    public int countOfNaN(double[] data, int offset, int length) {
+        var count = 0;
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            count += DoubleVector.fromArray(SPECIES, data, offset + i).test(IS_NAN).trueCount();
+        }
+        for (; i < length; ++i) {
+            if (data[offset + i] != data[offset + i]) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public double sumOfNonNaN(double[] data, int offset, int length) {
+        var accumulator = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            var values = DoubleVector.fromArray(SPECIES, data, offset + i);
+            accumulator = accumulator.add(values.blend(0D, values.test(IS_NAN)));
+        }
+        var sum = accumulator.reduceLanes(ADD);
+        for (; i < length; ++i) {
+            var value = data[offset + i];
+            if (value == value) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquaredDeviationsOfNonNaN(double[] data, int offset, int length, double mean, int count) {
+        var means = DoubleVector.broadcast(SPECIES, mean);
+        var squares = DoubleVector.zero(SPECIES);
+        var deviations = DoubleVector.zero(SPECIES);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            var values = DoubleVector.fromArray(SPECIES, data, offset + i);
+            var deviation = values.sub(means).blend(0D, values.test(IS_NAN));
+            squares = deviation.fma(deviation, squares);
+            deviations = deviations.add(deviation);
+        }
+        var sumOfSquares = squares.reduceLanes(ADD);
+        var sumOfDeviations = deviations.reduceLanes(ADD);
+        for (; i < length; ++i) {
+            var value = data[offset + i];
+            if (value == value) {
+                var deviation = value - mean;
+                sumOfSquares += deviation * deviation;
+                sumOfDeviations += deviation;
+            }
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / count;
+    }
+
+    @Override
+    public void subtract(double[] source, int sourceOffset, double constant, double[] destination, int destinationOffset, int length) {
+        var constants = DoubleVector.broadcast(SPECIES, constant);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, source, sourceOffset + i)
+                    .sub(constants)
+                    .intoArray(destination, destinationOffset + i);
+        }
+        for (; i < length; ++i) {
+            destination[destinationOffset + i] = source[sourceOffset + i] - constant;
+        }
+    }
+
+    @Override
+    public void square(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            var values = DoubleVector.fromArray(SPECIES, source, sourceOffset + i);
+            values.mul(values).intoArray(destination, destinationOffset + i);
+        }
+        for (; i < length; ++i) {
+            var value = source[sourceOffset + i];
+            destination[destinationOffset + i] = value * value;
+        }
+    }
+
+    @Override
+    public void squaredDeviation(double[] source, int sourceOffset, double mean, double[] destination, int destinationOffset, int length) {
+        var means = DoubleVector.broadcast(SPECIES, mean);
+        var bound = SPECIES.loopBound(length);
+        var i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            var deviations = DoubleVector.fromArray(SPECIES, source, sourceOffset + i).sub(means);
+            deviations.mul(deviations).intoArray(destination, destinationOffset + i);
+        }
+        for (; i < length; ++i) {
+            var deviation = source[sourceOffset + i] - mean;
+            destination[destinationOffset + i] = deviation * deviation;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import static java.util.Arrays.fill;
+import static java.util.Objects.checkFromIndexSize;
+
+/**
+ * Statistics of values that each carry a frequency weight, such as binned
+ * counts. With whole-number weights every result equals that of the
+ * corresponding {@link Statistic} method applied to the sample with each
+ * value repeated as many times as its weight, but no such sample is built.
+ * Fractional weights are treated the same way, as total weight rather than
+ * number of values. Weights must be finite and not negative; values with zero
+ * weight are ignored, and a NaN value with positive weight makes the result
+ * NaN.
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public final class WeightedStatistic {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private WeightedStatistic() {}
+
+    public static double arithmeticMean(double[] values, double[] weights) {
+        return arithmeticMean(values, weights, 0, values.length);
+    }
+
+    public static double arithmeticMean(double[] values, double[] weights, int offset, int length) {
+        checkArguments(values, weights, offset, length);
+        return arithmeticMean(values, weights, offset, length, sumOfWeights(weights, offset, length));
+    }
+
+    public static double populationVariance(double[] values, double[] weights) {
+        return populationVariance(values, weights, 0, values.length);
+    }
+
+    public static double populationVariance(double[] values, double[] weights, int offset, int length) {
+        checkArguments(values, weights, offset, length);
+        var sumOfWeights = sumOfWeights(weights, offset, length);
+        return sumOfSquaredDeviations(values, weights, offset, length, sumOfWeights) / sumOfWeights;
+    }
+
+    public static double populationStandardDeviation(double[] values, double[] weights) {
+        return sqrt(populationVariance(values, weights));
+    }
+
+    public static double populationStandardDeviation(double[] values, double[] weights, int offset, int length) {
+        return sqrt(populationVariance(values, weights, offset, length));
+    }
+
+    public static double sampleVariance(double[] values, double[] weights) {
+        return sampleVariance(values, weights, 0, values.length);
+    }
+
+    public static double sampleVariance(double[] values, double[] weights, int offset, int length) {
+        checkArguments(values, weights, offset, length);
+        var sumOfWeights = sumOfWeights(weights, offset, length);
+        return sumOfSquaredDeviations(values, weights, offset, length, sumOfWeights) / (sumOfWeights - 1D);
+    }
+
+    public static double sampleStandardDeviation(double[] values, double[] weights) {
+        return sqrt(sampleVariance(values, weights));
+    }
+
+    public static double sampleStandardDeviation(double[] values, double[] weights, int offset, int length) {
+        return sqrt(sampleVariance(values, weights, offset, length));
+    }
+
+    private static double sumOfWeights(double[] weights, int offset, int length) {
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            sum += weights[i];
+        }
+        return sum;
+    }
+
+    private static double arithmeticMean(double[] values, double[] weights, int offset, int length,
+            double sumOfWeights) {
+        var sum = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            if (weights[i] != 0D) {
+                sum += weights[i] * values[i];
+            }
+        }
+        return sum / sumOfWeights;
+    }
+
+    /*
+     * Corrected two-pass algorithm, as in Statistic, with each term weighted.
+     */
+    private static double sumOfSquaredDeviations(double[] values, double[] weights, int offset, int length,
+            double sumOfWeights) {
+        var mean = arithmeticMean(values, weights, offset, length, sumOfWeights);
+        var sumOfSquares = 0D;
+        var sumOfDeviations = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            if (weights[i] != 0D) {
+                var deviation = values[i] - mean;
+                sumOfSquares += weights[i] * deviation * deviation;
+                sumOfDeviations += weights[i] * deviation;
+            }
+        }
+        return sumOfSquares - sumOfDeviations * sumOfDeviations / sumOfWeights;
+    }
+
+    public static double median(double[] values, double[] weights) {
+        return quantile(values, weights, 0.5D);
+    }
+
+    public static double median(double[] values, double[] weights, int offset, int length) {
+        return quantile(values, weights, offset, length, 0.5D);
+    }
+
+    public static double quantile(double[] values, double[] weights, double p) {
+        return quantiles(values, weights, p)[0];
+    }
+
+    public static double quantile(double[] values, double[] weights, int offset, int length, double p) {
+        return quantiles(values, weights, offset, length, new double[] {p})[0];
+    }
+
+    public static double[] quantiles(double[] values, double[] weights, double... ps) {
+        return quantiles(values, weights, 0, values.length, ps);
+    }
+
+    /**
+     * Returns quantiles interpolated linearly between order statistics of the
+     * weighted sample, each order statistic being found by a weighted
+     * selection over copies of the values and weights, in expected linear
+     * time.
+     */
+    public static double[] quantiles(double[] values, double[] weights, int offset, int length, double[] ps) {
+        checkArguments(values, weights, offset, length);
+        for (var p : ps) {
+            if (!(p >= 0D && p <= 1D)) {
+                throw new IllegalArgumentException();
+            }
+        }
+        var result = new double[ps.length];
+        var sortedValues = new double[length];
+        var sortedWeights = new double[length];
+        var count = 0;
+        var sumOfWeights = 0D;
+        for (var i = offset; i < offset + length; ++i) {
+            if (weights[i] == 0D) {
+                continue;
+            }
+            if (values[i] != values[i]) {
+                fill(result, Double.NaN);
+                return result;
+            }
+            sortedValues[count] = values[i];
+            sortedWeights[count++] = weights[i];
+            sumOfWeights += weights[i];
+        }
+        for (var i = 0; i < ps.length; ++i) {
+            if (count == 0) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            var position = max(0D, (sumOfWeights - 1D) * ps[i]);
+            var lower = floor(position);
+            var fraction = position - lower;
+            var lowerValue = select(sortedValues, sortedWeights, count, lower);
+            result[i] = fraction == 0D
+                    ? lowerValue
+                    : (1D - fraction) * lowerValue
+                            + fraction * select(sortedValues, sortedWeights, count, lower + 1D);
+        }
+        return result;
+    }
+
+    /*
+     * Returns the smallest value whose cumulative weight, in sorted order,
+     * exceeds the given rank. Three-way partitioning keeps runs of equal
+     * values together, and the weight on either side of the pivot decides
+     * which part to continue in.
+     */
+    private static double select(double[] values, double[] weights, int count, double rank) {
+        var from = 0;
+        var to = count;
+        var depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(count));
+        while (to - from > INSERTION_SORT_THRESHOLD && depthLimit-- > 0) {
+            var pivot = medianOfThree(values[from], values[(from + to - 1) >>> 1], values[to - 1]);
+            var lessThan = from;
+            var index = from;
+            var greaterThan = to;
+            var weightLess = 0D;
+            var weightEqual = 0D;
+            while (index < greaterThan) {
+                var value = values[index];
+                if (value < pivot) {
+                    weightLess += weights[index];
+                    swap(values, weights, lessThan++, index++);
+                } else if (value > pivot) {
+                    swap(values, weights, index, --greaterThan);
+                } else {
+                    weightEqual += weights[index];
+                    ++index;
+                }
+            }
+            if (rank < weightLess) {
+                to = lessThan;
+            } else if (rank < weightLess + weightEqual) {
+                return pivot;
+            } else {
+                rank -= weightLess + weightEqual;
+                from = greaterThan;
+            }
+        }
+        sort(values, weights, from, to);
+        var cumulative = 0D;
+        for (var i = from; i < to; ++i) {
+            cumulative += weights[i];
+            if (cumulative > rank) {
+                return values[i];
+            }
+        }
+        return values[to - 1];
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (a < b) {
+            return b < c ? b : (a < c ? c : a);
+        }
+        return a < c ? a : (b < c ? c : b);
+    }
+
+    /*
+     * Sorts the values, carrying their weights along: insertion sort for
+     * short ranges, heap sort otherwise.
+     */
+    private static void sort(double[] values, double[] weights, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (var i = from + 1; i < to; ++i) {
+                var value = values[i];
+                var weight = weights[i];
+                var j = i - 1;
+                while (j >= from && values[j] > value) {
+                    values[j + 1] = values[j];
+                    weights[j + 1] = weights[j];
+                    --j;
+                }
+                values[j + 1] = value;
+                weights[j + 1] = weight;
+            }
+            return;
+        }
+        var size = to - from;
+        for (var i = size / 2 - 1; i >= 0; --i) {
+            siftDown(values, weights, from, i, size);
+        }
+        for (var end = size - 1; end > 0; --end) {
+            swap(values, weights, from, from + end);
+            siftDown(values, weights, from, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] values, double[] weights, int base, int root, int size) {
+        while (2 * root + 1 < size) {
+            var child = 2 * root + 1;
+            if (child + 1 < size && values[base + child + 1] > values[base + child]) {
+                ++child;
+            }
+            if (values[base + root] >= values[base + child]) {
+                return;
+            }
+            swap(values, weights, base + root, base + child);
+            root = child;
+        }
+    }
+
+    private static void swap(double[] values, double[] weights, int i, int j) {
+        var value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        var weight = weights[i];
+        weights[i] = weights[j];
+        weights[j] = weight;
+    }
+
+    private static void checkArguments(double[] values, double[] weights, int offset, int length)
+            throws IllegalArgumentException {
+        if (values.length != weights.length) {
+            throw new IllegalArgumentException();
+        }
+        checkFromIndexSize(offset, length, values.length);
+        for (var i = offset; i < offset + length; ++i) {
+            if (!(weights[i] >= 0D && weights[i] < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException();
+            }
+        }
+    }
+}
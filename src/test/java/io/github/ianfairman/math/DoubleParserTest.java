@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class DoubleParserTest {
+
+    @Test
+    void shouldAgreeWithParseDouble() {
+        // Given
+        var random = new Random(61L);
+        String[] fixed = {
+            "0", "-0", "+1", "1.", ".5", "-.5", "0.1", "123.456", "1e10", "1E-10", "-2.5e+3",
+            "9007199254740993", "123456789012345678901234", "0.000000000000000000000001",
+            "1e23", "1e-23", "1.7976931348623157E308", "4.9E-324", "1e400", "1e-400",
+            "NaN", "-Infinity", "Infinity", "1d", "0x1p3", "00000000000000000000001.5"
+        };
+        
+        // Then
+        for (var text : fixed) {
+            assertParsesAsParseDouble(text);
+        }
+        for (var i = 0; i < 100_000; ++i) {
+            assertParsesAsParseDouble(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            assertParsesAsParseDouble(Double.toString(random.nextGaussian() * 1000D));
+            assertParsesAsParseDouble(String.format(Locale.ROOT, "%." + random.nextInt(10) + "f", random.nextDouble() * 1E6));
+        }
+    }
+    
+    @Test
+    void shouldRejectMalformedNumbers() {
+        for (var text : new String[] {"", "-", ".", "e5", "1e", "1.2.3", "1,5", "abc"}) {
+            var bytes = text.getBytes(ISO_8859_1);
+            Assertions.assertThrows(NumberFormatException.class, () -> DoubleParser.parse(bytes, 0, bytes.length));
+        }
+    }
+
+    private static void assertParsesAsParseDouble(String text) {
+        var bytes = (" " + text + " ").getBytes(ISO_8859_1);
+        assertEquals(
+                Double.doubleToLongBits(Double.parseDouble(text)),
+                Double.doubleToLongBits(DoubleParser.parse(bytes, 1, bytes.length - 2)),
+                text);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class KernelsTest {
+
+    private final Kernels scalar = new ScalarKernels();
+    private final Kernels vector = new VectorKernels();
+
+    @Test
+    void shouldUseVectorKernelsWhenModuleIsPresentUnlessScalarKernelsAreRequested() {
+        // Given
+        Class<? extends Kernels> expected = "scalar".equals(System.getProperty(Kernels.PROPERTY))
+                ? ScalarKernels.class
+                : VectorKernels.class;
+
+        // Then
+        assertInstanceOf(expected, Kernels.KERNELS);
+    }
+
+    @Test
+    void shouldAgreeOnSumForEveryTailLength() {
+        // Given
+        var random = new Random(31L);
+        var data = new double[100];
+        for (var i = 0; i < data.length; ++i) {
+            data[i] = random.nextGaussian();
+        }
+        for (var length = 0; length < 70; ++length) {
+            // When
+            var expected = scalar.sum(data, 3, length);
+            var result = vector.sum(data, 3, length);
+
+            // Then
+            assertEquals(expected, result, 1E-12D);
+        }
+    }
+
+    @Test
+    void shouldAgreeOnSumOfSquaredDeviations() {
+        // Given
+        var random = new Random(37L);
+        var data = new double[1000];
+        for (var i = 0; i < data.length; ++i) {
+            data[i] = 100D + random.nextGaussian();
+        }
+        var mean = scalar.sum(data, 1, 997) / 997;
+
+        // When
+        var expected = scalar.sumOfSquaredDeviations(data, 1, 997, mean);
+        var result = vector.sumOfSquaredDeviations(data, 1, 997, mean);
+
+        // Then
+        assertEquals(expected, result, 1E-9D);
+    }
+
+    @Test
+    void shouldAgreeOnSumOfDeviations() {
+        // Given
+        var random = new Random(157L);
+        var data = new double[1000];
+        for (var i = 0; i < data.length; ++i) {
+            data[i] = 1E9D + random.nextGaussian();
+        }
+        var mean = scalar.sum(data, 3, 995) / 995;
+
+        // When
+        var expected = scalar.sumOfDeviations(data, 3, 995, mean);
+        var result = vector.sumOfDeviations(data, 3, 995, mean);
+
+        // Then
+        assertEquals(expected, result, 1E-9D);
+    }
+
+    @Test
+    void shouldAgreeOnSubtract() {
+        // Given
+        var source = new double[37];
+        for (var i = 0; i < source.length; ++i) {
+            source[i] = i * 1.5D;
+        }
+        var expected = new double[40];
+        var result = new double[40];
+
+        // When
+        scalar.subtract(source, 2, 4D, expected, 3, 35);
+        vector.subtract(source, 2, 4D, result, 3, 35);
+
+        // Then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void shouldAgreeOnSquare() {
+        // Given
+        var source = new double[37];
+        for (var i = 0; i < source.length; ++i) {
+            source[i] = i - 18.25D;
+        }
+        var expected = new double[37];
+        var result = new double[37];
+
+        // When
+        scalar.square(source, 0, expected, 0, 37);
+        vector.square(source, 0, result, 0, 37);
+
+        // Then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void shouldAgreeOnSquaredDeviation() {
+        // Given
+        var source = new double[37];
+        for (var i = 0; i < source.length; ++i) {
+            source[i] = i * 0.75D;
+        }
+        var expected = new double[40];
+        var result = new double[40];
+
+        // When
+        scalar.squaredDeviation(source, 1, 12.5D, expected, 4, 36);
+        vector.squaredDeviation(source, 1, 12.5D, result, 4, 36);
+
+        // Then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void shouldAgreeOnNaNSkippingKernels() {
+        // Given
+        var random = new Random(79L);
+        var data = new double[100];
+        for (var i = 0; i < data.length; ++i) {
+            data[i] = random.nextInt(5) == 0 ? Double.NaN : 10D + random.nextGaussian();
+        }
+        for (var length = 0; length < 70; ++length) {
+            // When
+            var count = length - scalar.countOfNaN(data, 5, length);
+            var mean = scalar.sumOfNonNaN(data, 5, length) / count;
+
+            // Then
+            assertEquals(count, length - vector.countOfNaN(data, 5, length));
+            assertEquals(scalar.sumOfNonNaN(data, 5, length), vector.sumOfNonNaN(data, 5, length), 1E-12D);
+            assertEquals(
+                    scalar.sumOfSquaredDeviationsOfNonNaN(data, 5, length, mean, count),
+                    vector.sumOfSquaredDeviationsOfNonNaN(data, 5, length, mean, count),
+                    1E-9D);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class MedianPolishTest {
+
+    @Test
+    void shouldPolishNearlyAdditiveTable() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, 5D, 6D}, {7D, 8D, 10D}};
+        var table = new TwoWayTable(array);
+
+        // When
+        var polish = table.medianPolish();
+
+        // Then
+        assertEquals(5D, polish.overall());
+        assertArrayEquals(new double[] {-3D, 0D, 3D}, polish.rowEffects());
+        assertArrayEquals(new double[] {-1D, 0D, 1D}, polish.columnEffects());
+        assertEquals(new TwoWayTable(new double[][] {{0D, 0D, 0D}, {0D, 0D, 0D}, {0D, 0D, 1D}}), polish.residuals());
+        assertEquals(2, polish.iterations());
+        assertTrue(polish.converged());
+    }
+
+    @Test
+    void shouldPolishTableWithOutliers() {
+        // Given
+        double[][] array = {{14D, 15D, 14D}, {7D, 4D, 7D}, {8D, 2D, 10D}, {15D, 9D, 10D}, {0D, 2D, 0D}};
+        var table = new TwoWayTable(array);
+
+        // When
+        var polish = table.medianPolish();
+
+        // Then
+        assertEquals(8D, polish.overall());
+        assertArrayEquals(new double[] {6D, -1D, 0D, 2D, -8D}, polish.rowEffects());
+        assertArrayEquals(new double[] {0D, -1D, 0D}, polish.columnEffects());
+        var residuals = new double[][] {{0D, 2D, 0D}, {0D, -2D, 0D}, {0D, -5D, 2D}, {5D, 0D, 0D}, {0D, 3D, 0D}};
+        assertEquals(new TwoWayTable(residuals), polish.residuals());
+    }
+
+    @Test
+    void shouldReconstructTableFromFit() {
+        // Given
+        double[][] array = {{3D, 9D, 1D, 4D}, {2D, 2D, 8D, 5D}, {7D, 1D, 6D, 6D}};
+        var table = TwoWayTable.forColumnAccess(array);
+
+        // When
+        var polish = table.medianPolish(20, 0D);
+
+        // Then
+        for (var row = 0; row < 3; ++row) {
+            for (var column = 0; column < 4; ++column) {
+                var fit = polish.overall() + polish.rowEffects()[row] + polish.columnEffects()[column]
+                        + polish.residuals().get(row, column);
+                assertEquals(array[row][column], fit, 1E-12D);
+            }
+        }
+    }
+
+    @Test
+    void shouldStopAtMaximumIterations() {
+        // Given
+        double[][] array = {{3D, 9D, 1D, 4D}, {2D, 2D, 8D, 5D}, {7D, 1D, 6D, 6D}};
+
+        // When
+        var polish = new TwoWayTable(array).medianPolish(1, 0D);
+
+        // Then
+        assertEquals(1, polish.iterations());
+        assertFalse(polish.converged());
+    }
+
+    @Test
+    void shouldNotAcceptInvalidSettings() {
+        // Given
+        var table = new TwoWayTable(new double[][] {{1D, 2D}, {3D, 4D}});
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> table.medianPolish(0, 0.01D));
+        assertThrows(IllegalArgumentException.class, () -> table.medianPolish(10, -1D));
+    }
+
+    @Test
+    void shouldPropagateNaNByDefault() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, Double.NaN, 6D}, {7D, 8D, 10D}};
+        var table = new TwoWayTable(array);
+
+        // When
+        var polish = table.medianPolish();
+
+        // Then
+        assertTrue(Double.isNaN(polish.overall()));
+        assertTrue(Double.isNaN(polish.rowEffects()[0]));
+        assertTrue(Double.isNaN(polish.columnEffects()[0]));
+        assertEquals(1, polish.iterations());
+        assertFalse(polish.converged());
+    }
+
+    @Test
+    void shouldSkipNaNCellsWhenAsked() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, Double.NaN, 6D}, {7D, 8D, 10D}};
+        var table = new TwoWayTable(array);
+
+        // When
+        var polish = table.medianPolish(NaNPolicy.SKIP);
+
+        // Then
+        assertEquals(5D, polish.overall());
+        assertArrayEquals(new double[] {-3D, 0D, 3D}, polish.rowEffects());
+        assertArrayEquals(new double[] {-1D, 0D, 1D}, polish.columnEffects());
+        assertTrue(Double.isNaN(polish.residuals().get(1, 1)));
+        assertEquals(1D, polish.residuals().get(2, 2));
+        assertEquals(2, polish.iterations());
+        assertTrue(polish.converged());
+    }
+
+    @Test
+    void shouldFailOnNaNWhenAsked() {
+        // Given
+        var table = new TwoWayTable(new double[][] {{1D, Double.NaN}, {3D, 4D}});
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> table.medianPolish(NaNPolicy.FAIL));
+    }
+
+    @Test
+    void shouldNotExposeEffects() {
+        // Given
+        var table = TwoWayTable.copyOf(new double[][] {{1D, 2D, 3D}, {4D, 5D, 6D}, {7D, 8D, 10D}});
+        var polish = table.medianPolish();
+
+        // When
+        polish.rowEffects()[0] = 99D;
+        polish.columnEffects()[0] = 99D;
+
+        // Then
+        assertArrayEquals(new double[] {-3D, 0D, 3D}, polish.rowEffects());
+        assertArrayEquals(new double[] {-1D, 0D, 1D}, polish.columnEffects());
+    }
+
+    @Test
+    void shouldCompareResultsByContent() {
+        // Given
+        double[][] array = {{14D, 15D, 14D}, {7D, 4D, 7D}, {8D, 2D, 10D}, {15D, 9D, 10D}, {0D, 2D, 0D}};
+
+        // When
+        var polish = new TwoWayTable(array).medianPolish();
+        var other = TwoWayTable.forColumnAccess(array).medianPolish();
+
+        // Then
+        assertEquals(polish, other);
+        assertEquals(polish.hashCode(), other.hashCode());
+        assertEquals(polish.toString(), other.toString());
+        assertTrue(polish.toString().contains("rowEffects=[6.0, -1.0, 0.0, 2.0, -8.0]"));
+        assertFalse(polish.equals(new TwoWayTable(array).medianPolish(1, 0D)));
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class QuantileSketchTest {
+
+    private static final double RANK_ERROR_BOUND = 3D / QuantileSketch.DEFAULT_K;
+
+    @Test
+    void shouldAnswerExactlyWhileSmall() {
+        // Given
+        var sketch = new QuantileSketch();
+        double[] input = {9D, 2D, 7D, 4D, 5D};
+
+        // When
+        for (var value : input) {
+            sketch.accept(value);
+        }
+
+        // Then
+        assertEquals(Statistic.median(input), sketch.median());
+        assertEquals(2D, sketch.quantile(0D));
+        assertEquals(9D, sketch.quantile(1D));
+    }
+
+    @Test
+    void shouldReturnNaNWhenEmpty() {
+        // Given
+        var sketch = new QuantileSketch();
+
+        // Then
+        assertTrue(Double.isNaN(sketch.median()));
+    }
+
+    @Test
+    void shouldIgnoreNaN() {
+        // Given
+        var sketch = new QuantileSketch();
+
+        // When
+        sketch.accept(1D);
+        sketch.accept(Double.NaN);
+        sketch.accept(3D);
+
+        // Then
+        assertEquals(2L, sketch.count());
+    }
+
+    @Test
+    void shouldApproximateExactMedianOfRandomData() {
+        for (var trial = 0; trial < 10; ++trial) {
+            // Given
+            var random = new Random(trial);
+            var input = new double[50_000 + 1000 * trial];
+            var sketch = new QuantileSketch();
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = trial % 2 == 0 ? random.nextGaussian() : random.nextDouble() * random.nextDouble();
+                sketch.accept(input[i]);
+            }
+
+            // When
+            var approximate = sketch.median();
+
+            // Then
+            var exact = Statistic.median(input);
+            assertTrue(Math.abs(rank(input, approximate) - rank(input, exact)) <= RANK_ERROR_BOUND);
+        }
+    }
+
+    @Test
+    void shouldApproximateArbitraryQuantiles() {
+        // Given
+        var random = new Random(99L);
+        var input = new double[100_000];
+        var sketch = new QuantileSketch();
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = Math.exp(random.nextGaussian());
+            sketch.accept(input[i]);
+        }
+        double[] ps = {0.01D, 0.1D, 0.25D, 0.75D, 0.9D, 0.99D};
+
+        // When
+        var approximate = sketch.quantiles(ps);
+
+        // Then
+        for (var i = 0; i < ps.length; ++i) {
+            assertTrue(Math.abs(rank(input, approximate[i]) - ps[i]) <= RANK_ERROR_BOUND);
+        }
+    }
+
+    @Test
+    void shouldUseBoundedMemory() {
+        // Given
+        var sketch = new QuantileSketch(100);
+
+        // When
+        for (var i = 0; i < 1_000_000; ++i) {
+            sketch.accept(i);
+        }
+
+        // Then
+        assertTrue(sketch.toByteArray().length < 4 * 100 * Double.BYTES);
+    }
+
+    @Test
+    void shouldMergeSketchesOfPartitions() {
+        // Given
+        var random = new Random(1L);
+        var input = new double[80_000];
+        var sketches = new QuantileSketch[4];
+        for (var i = 0; i < sketches.length; ++i) {
+            sketches[i] = new QuantileSketch();
+        }
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextGaussian();
+            sketches[i % sketches.length].accept(input[i]);
+        }
+
+        // When
+        var merged = new QuantileSketch();
+        for (var sketch : sketches) {
+            merged.merge(sketch);
+        }
+
+        // Then
+        assertEquals(input.length, merged.count());
+        assertTrue(Math.abs(rank(input, merged.median()) - 0.5D) <= RANK_ERROR_BOUND);
+    }
+
+    @Test
+    void shouldMergeSketchWithItself() {
+        // Given
+        var sketch = new QuantileSketch(100);
+        for (var i = 0; i < 1_000; ++i) {
+            sketch.accept(i);
+        }
+
+        // When
+        sketch.merge(sketch);
+
+        // Then
+        assertEquals(2_000, sketch.count());
+        assertEquals(0D, sketch.quantile(0D));
+        assertEquals(999D, sketch.quantile(1D));
+        assertTrue(Math.abs(sketch.median() - 499.5D) <= 1_000 * RANK_ERROR_BOUND);
+        assertTrue(sketch.toByteArray().length < 4 * 100 * Double.BYTES);
+    }
+
+    @Test
+    void shouldNotMergeSketchesWithDifferentAccuracy() {
+        // Given
+        var sketch = new QuantileSketch(100);
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(200)));
+    }
+
+    @Test
+    void shouldRoundTripThroughByteArray() {
+        // Given
+        var random = new Random(2L);
+        var sketch = new QuantileSketch();
+        for (var i = 0; i < 10_000; ++i) {
+            sketch.accept(random.nextDouble());
+        }
+
+        // When
+        var copy = QuantileSketch.fromByteArray(sketch.toByteArray());
+
+        // Then
+        assertEquals(sketch.count(), copy.count());
+        assertEquals(sketch.k(), copy.k());
+        assertArrayEquals(sketch.quantiles(0D, 0.1D, 0.5D, 0.9D, 1D), copy.quantiles(0D, 0.1D, 0.5D, 0.9D, 1D));
+    }
+
+    @Test
+    void shouldNotAcceptTruncatedByteArray() {
+        // Given
+        var sketch = new QuantileSketch();
+        sketch.accept(1D);
+        var bytes = sketch.toByteArray();
+
+        // Then
+        assertThrows(IllegalArgumentException.class,
+                () -> QuantileSketch.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    private static double rank(double[] input, double value) {
+        var below = 0;
+        for (var x : input) {
+            if (x < value) {
+                ++below;
+            }
+        }
+        return (double) below / (input.length - 1);
+    }
+}
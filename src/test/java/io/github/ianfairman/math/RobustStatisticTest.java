@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class RobustStatisticTest {
+
+    @Test
+    void shouldFindMedianAbsoluteDeviation() {
+        // Given
+        double[] input = {1D, 1D, 2D, 2D, 4D, 6D, 9D};
+        
+        // When
+        var result = RobustStatistic.medianAbsoluteDeviation(input);
+        
+        // Then
+        assertEquals(1D, result);
+        assertArrayEquals(new double[] {1D, 1D, 2D, 2D, 4D, 6D, 9D}, input);
+    }
+    
+    @Test
+    void shouldFindInterquartileRange() {
+        // Given
+        double[] input = {7D, 1D, 3D, 5D, 9D};
+        
+        // When
+        var result = RobustStatistic.interquartileRange(input);
+        
+        // Then
+        assertEquals(4D, result);
+    }
+    
+    @Test
+    void shouldTrimAndWinsorizeAgainstSortedReference() {
+        // Given
+        var random = new Random(103L);
+        for (var trial = 0; trial < 100; ++trial) {
+            var input = new double[1 + random.nextInt(200)];
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = random.nextInt(30);
+            }
+            var proportion = random.nextDouble() * 0.49D;
+            var sorted = input.clone();
+            Arrays.sort(sorted);
+            var trimmed = (int) Math.floor(proportion * input.length);
+            var winsorized = sorted.clone();
+            Arrays.fill(winsorized, 0, trimmed, sorted[trimmed]);
+            Arrays.fill(winsorized, input.length - trimmed, input.length, sorted[input.length - trimmed - 1]);
+            
+            // Then
+            assertEquals(Statistic.arithmeticMean(sorted, trimmed, input.length - 2 * trimmed),
+                    RobustStatistic.trimmedMean(input, proportion), 1E-12);
+            assertEquals(Statistic.arithmeticMean(winsorized),
+                    RobustStatistic.winsorizedMean(input, proportion), 1E-12);
+            assertEquals(Statistic.sampleVariance(winsorized),
+                    RobustStatistic.winsorizedVariance(input, proportion), 1E-9);
+        }
+    }
+    
+    @Test
+    void shouldFindHodgesLehmannAgainstAllPairs() {
+        // Given
+        var random = new Random(107L);
+        for (var trial = 0; trial < 100; ++trial) {
+            var input = new double[1 + random.nextInt(60)];
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = trial % 2 == 0 ? random.nextInt(10) - 5 : random.nextGaussian() * 1E3;
+            }
+            var averages = new double[input.length * (input.length + 1) / 2];
+            var k = 0;
+            for (var i = 0; i < input.length; ++i) {
+                for (var j = i; j < input.length; ++j) {
+                    averages[k++] = (input[i] + input[j]) / 2D;
+                }
+            }
+            
+            // When
+            var result = RobustStatistic.hodgesLehmann(input);
+            
+            // Then
+            assertEquals(Statistic.median(averages), result, 1E-9);
+        }
+    }
+    
+    @Test
+    void shouldReuseScratchForSlices() {
+        // Given
+        double[] input = {100D, 3D, 1D, 2D, -100D};
+        var scratch = new double[3];
+        
+        // Then
+        assertEquals(1D, RobustStatistic.medianAbsoluteDeviation(input, 1, 3, scratch));
+        assertEquals(2D, RobustStatistic.hodgesLehmann(input, 1, 3, scratch));
+        assertEquals(2D, RobustStatistic.trimmedMean(input, 1, 3, 0.34D, scratch));
+        assertThrows(IllegalArgumentException.class, () -> RobustStatistic.interquartileRange(input, 0, 5, scratch));
+    }
+    
+    @Test
+    void shouldPropagateNaNAndRejectBadProportions() {
+        // Given
+        double[] input = {1D, Double.NaN, 3D};
+        
+        // Then
+        assertTrue(Double.isNaN(RobustStatistic.medianAbsoluteDeviation(input)));
+        assertTrue(Double.isNaN(RobustStatistic.hodgesLehmann(input)));
+        assertTrue(Double.isNaN(RobustStatistic.trimmedMean(input, 0.2D)));
+        assertThrows(IllegalArgumentException.class, () -> RobustStatistic.trimmedMean(input, 0.5D));
+        assertThrows(IllegalArgumentException.class, () -> RobustStatistic.winsorizedMean(input, -0.1D));
+    }
+}
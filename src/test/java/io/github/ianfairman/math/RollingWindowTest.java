@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class RollingWindowTest {
+
+    @Test
+    void shouldCalculateRollingMeans() {
+        // Given
+        double[] input = {1D, 2D, 3D, 4D, 5D, 6D};
+
+        // When
+        double[] result = RollingWindow.arithmeticMeans(input, 3);
+
+        // Then
+        assertArrayEquals(new double[] {2D, 3D, 4D, 5D}, result);
+    }
+
+    @Test
+    void shouldCalculateRollingMedians() {
+        // Given
+        double[] input = {5D, 1D, 4D, 2D, 8D, 7D};
+
+        // When
+        double[] result = RollingWindow.medians(input, 4);
+
+        // Then
+        assertArrayEquals(new double[] {3D, 3D, 5.5D}, result);
+    }
+
+    @Test
+    void shouldReturnEmptyResultWhenInputIsShorterThanWindow() {
+        // Given
+        double[] input = {1D, 2D};
+
+        // Then
+        assertEquals(0, RollingWindow.medians(input, 3).length);
+    }
+
+    @Test
+    void shouldNotAcceptEmptyWindow() {
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new RollingWindow(0));
+    }
+
+    @Test
+    void shouldMatchBatchStatisticsForEveryWindow() {
+        for (var size : new int[] {1, 2, 7, 64}) {
+            // Given
+            var random = new Random(size);
+            var input = new double[2000];
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = size % 2 == 0 ? 1E5D + random.nextGaussian() : random.nextInt(5);
+            }
+
+            // When
+            var means = RollingWindow.arithmeticMeans(input, size);
+            var populationVariances = RollingWindow.populationVariances(input, size);
+            var sampleStandardDeviations = RollingWindow.sampleStandardDeviations(input, size);
+            var medians = RollingWindow.medians(input, size);
+
+            // Then
+            for (var i = 0; i < medians.length; ++i) {
+                assertEquals(Statistic.arithmeticMean(input, i, size), means[i], 1E-9D);
+                assertEquals(Statistic.populationVariance(input, i, size), populationVariances[i], 1E-8D);
+                if (size > 1) {
+                    assertEquals(Statistic.sampleStandardDeviation(input, i, size), sampleStandardDeviations[i], 1E-8D);
+                }
+                assertEquals(Statistic.median(input, i, size), medians[i]);
+            }
+        }
+    }
+
+    @Test
+    void shouldUpdateIncrementally() {
+        // Given
+        var window = new RollingWindow(3);
+
+        // When
+        window.accept(9D);
+        window.accept(1D);
+
+        // Then
+        assertFalse(window.isFull());
+        assertEquals(2, window.count());
+        assertEquals(5D, window.arithmeticMean());
+        assertEquals(5D, window.median());
+
+        // When
+        window.accept(2D);
+        window.accept(6D);
+
+        // Then
+        assertTrue(window.isFull());
+        assertEquals(3D, window.arithmeticMean());
+        assertEquals(2D, window.median());
+        assertEquals(7D, window.sampleVariance(), 1E-12D);
+    }
+
+    @Test
+    void shouldRecoverOnceNaNLeavesWindow() {
+        // Given
+        var window = new RollingWindow(2);
+
+        // When
+        window.accept(1D);
+        window.accept(Double.NaN);
+
+        // Then
+        assertTrue(Double.isNaN(window.arithmeticMean()));
+        assertTrue(Double.isNaN(window.median()));
+
+        // When
+        window.accept(3D);
+        window.accept(5D);
+
+        // Then
+        assertEquals(4D, window.arithmeticMean());
+        assertEquals(1D, window.populationVariance());
+        assertEquals(4D, window.median());
+    }
+
+    @Test
+    void shouldPropagateNaNInRollingMedians() {
+        // Given
+        var input = new double[] {1D, 2D, Double.NaN, 4D, 5D, 6D};
+
+        // When
+        var result = RollingWindow.medians(input, 3);
+
+        // Then
+        assertTrue(Double.isNaN(result[0]));
+        assertTrue(Double.isNaN(result[1]));
+        assertTrue(Double.isNaN(result[2]));
+        assertEquals(5D, result[3]);
+        assertEquals(Statistic.median(1D, 2D, Double.NaN), result[0], 0D);
+    }
+
+    @Test
+    void shouldStartAgainWhenCleared() {
+        // Given
+        var window = new RollingWindow(2);
+        window.accept(100D);
+        window.accept(200D);
+
+        // When
+        window.clear();
+        window.accept(4D);
+
+        // Then
+        assertEquals(1, window.count());
+        assertEquals(4D, window.arithmeticMean());
+        assertEquals(4D, window.median());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class RunningStatisticTest {
+
+    @Test
+    void shouldBeEmptyInitially() {
+        // Given
+        var statistic = new RunningStatistic();
+
+        // Then
+        assertEquals(0L, statistic.count());
+        assertEquals(0D, statistic.sum());
+        assertTrue(Double.isNaN(statistic.arithmeticMean()));
+        assertTrue(Double.isNaN(statistic.populationVariance()));
+    }
+
+    @Test
+    void shouldAccumulateSingleValues() {
+        // Given
+        var statistic = new RunningStatistic();
+
+        // When
+        for (var value : new double[] {2D, 4D, 4D, 4D, 5D, 5D, 7D, 9D}) {
+            statistic.accept(value);
+        }
+
+        // Then
+        assertEquals(8L, statistic.count());
+        assertEquals(40D, statistic.sum());
+        assertEquals(5D, statistic.arithmeticMean());
+        assertEquals(4D, statistic.populationVariance());
+        assertEquals(2D, statistic.populationStandardDeviation());
+        assertEquals(32D / 7D, statistic.sampleVariance(), 1E-12D);
+        assertEquals(2.138D, statistic.sampleStandardDeviation(), 0.001D);
+    }
+
+    @Test
+    void shouldAccumulateArraySlice() {
+        // Given
+        double[] values = {100D, 7D, 9D, 11D, 13D, 15D, -100D};
+        var statistic = new RunningStatistic();
+
+        // When
+        statistic.accept(values, 1, 5);
+
+        // Then
+        assertEquals(5L, statistic.count());
+        assertEquals(11D, statistic.arithmeticMean());
+        assertEquals(10D, statistic.sampleVariance());
+    }
+
+    @Test
+    void shouldNotAcceptSliceOutsideArray() {
+        // Given
+        var statistic = new RunningStatistic();
+
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> statistic.accept(new double[3], 2, 2));
+    }
+
+    @Test
+    void shouldCombinePartitionsConsistentlyWithBatchStatistics() {
+        // Given
+        var random = new Random(17L);
+        var values = new double[10_000];
+        for (var i = 0; i < values.length; ++i) {
+            values[i] = 1E6D + 10D * random.nextGaussian();
+        }
+        var first = new RunningStatistic();
+        var second = new RunningStatistic();
+        var third = new RunningStatistic();
+        for (var i = 0; i < 3000; ++i) {
+            first.accept(values[i]);
+        }
+        second.accept(values, 3000, 5000);
+        third.accept(values, 8000, 2000);
+
+        // When
+        var combined = new RunningStatistic().combine(first).combine(second).combine(third);
+
+        // Then
+        assertEquals(values.length, combined.count());
+        assertEquals(Statistic.sum(values), combined.sum(), 1E-3D);
+        assertEquals(Statistic.arithmeticMean(values), combined.arithmeticMean(), 1E-8D);
+        assertEquals(Statistic.populationVariance(values), combined.populationVariance(), 1E-8D);
+        assertEquals(Statistic.sampleStandardDeviation(values), combined.sampleStandardDeviation(), 1E-9D);
+    }
+
+    @Test
+    void shouldCombineWithEmptyStatistic() {
+        // Given
+        var statistic = new RunningStatistic();
+        statistic.accept(3D);
+        statistic.accept(5D);
+
+        // When
+        statistic.combine(new RunningStatistic());
+
+        // Then
+        assertEquals(2L, statistic.count());
+        assertEquals(4D, statistic.arithmeticMean());
+        assertEquals(1D, statistic.populationVariance());
+    }
+}
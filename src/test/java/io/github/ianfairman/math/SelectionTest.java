@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class SelectionTest {
+
+    @Test
+    void shouldPartitionAroundSelectedRank() {
+        // Given
+        var random = new Random(5L);
+        for (var trial = 0; trial < 200; ++trial) {
+            var data = new double[1 + random.nextInt(5000)];
+            for (var i = 0; i < data.length; ++i) {
+                data[i] = trial % 2 == 0 ? random.nextGaussian() : random.nextInt(4);
+            }
+            var sorted = data.clone();
+            Arrays.sort(sorted);
+            var k = random.nextInt(data.length);
+
+            // When
+            Selection.select(data, 0, data.length, k);
+
+            // Then
+            assertEquals(sorted[k], data[k]);
+            for (var i = 0; i < k; ++i) {
+                assertTrue(data[i] <= data[k]);
+            }
+            for (var i = k + 1; i < data.length; ++i) {
+                assertTrue(data[i] >= data[k]);
+            }
+        }
+    }
+
+    @Test
+    void shouldSelectSortedAndReverseSortedInput() {
+        // Given
+        var ascending = new double[10_000];
+        var descending = new double[10_000];
+        for (var i = 0; i < ascending.length; ++i) {
+            ascending[i] = i;
+            descending[i] = ascending.length - i;
+        }
+
+        // When
+        Selection.select(ascending, 0, ascending.length, 4321);
+        Selection.select(descending, 0, descending.length, 4321);
+
+        // Then
+        assertEquals(4321D, ascending[4321]);
+        assertEquals(4322D, descending[4321]);
+    }
+
+    @Test
+    void shouldPlaceEveryRequestedRank() {
+        // Given
+        var random = new Random(9L);
+        var data = new double[2000];
+        for (var i = 0; i < data.length; ++i) {
+            data[i] = random.nextDouble();
+        }
+        var sorted = data.clone();
+        Arrays.sort(sorted);
+        int[] ranks = {0, 17, 18, 999, 1000, 1998, 1999};
+
+        // When
+        Selection.selectAll(data, 0, data.length, ranks, 0, ranks.length);
+
+        // Then
+        for (var rank : ranks) {
+            assertEquals(sorted[rank], data[rank]);
+        }
+    }
+
+    @Test
+    void shouldCopyNaNsToEnd() {
+        // Given
+        double[] source = {3D, Double.NaN, 1D, Double.NaN, 2D};
+        var destination = new double[5];
+
+        // When
+        var count = Selection.copyWithNaNsLast(source, 0, source.length, destination);
+
+        // Then
+        assertEquals(3, count);
+        assertArrayEquals(new double[] {3D, 1D, 2D, Double.NaN, Double.NaN}, destination);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class SortedSampleTest {
+
+    private static final double[] PS = {0D, 0.01D, 0.25D, 0.5D, 0.75D, 0.9D, 1D};
+
+    @Test
+    void shouldAgreeWithStatisticAndRobustStatistic() {
+        // Given
+        var random = new Random(109L);
+        for (var trial = 0; trial < 100; ++trial) {
+            var input = new double[1 + random.nextInt(300)];
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = trial % 2 == 0 ? random.nextInt(20) : random.nextGaussian();
+            }
+            var proportion = random.nextDouble() * 0.49D;
+            
+            // When
+            var sample = Statistic.sorted(input);
+            
+            // Then
+            assertEquals(input.length, sample.size());
+            assertEquals(Statistic.median(input), sample.median());
+            assertArrayEquals(Statistic.quantiles(input, PS), sample.quantiles(PS));
+            assertEquals(RobustStatistic.medianAbsoluteDeviation(input), sample.medianAbsoluteDeviation());
+            assertEquals(RobustStatistic.trimmedMean(input, proportion), sample.trimmedMean(proportion), 1E-9);
+            assertEquals(RobustStatistic.winsorizedMean(input, proportion), sample.winsorizedMean(proportion), 1E-9);
+        }
+    }
+    
+    @Test
+    void shouldTrimAndWinsorizeExtremeTailsWithoutCancellation() {
+        // Given
+        var input = new double[] {-1E20D, 1D, 2D, 3D, 1E20D};
+        
+        // When
+        var sample = Statistic.sorted(input);
+        
+        // Then
+        assertEquals(RobustStatistic.trimmedMean(input, 0.2D), sample.trimmedMean(0.2D));
+        assertEquals(RobustStatistic.winsorizedMean(input, 0.2D), sample.winsorizedMean(0.2D));
+        assertEquals(2D, sample.trimmedMean(0.2D));
+        assertEquals(2D, sample.winsorizedMean(0.2D));
+    }
+    
+    @Test
+    void shouldAnswerRanksAndExtremes() {
+        // Given
+        var sample = Statistic.sorted(5D, 1D, 3D, 3D, 9D);
+        
+        // Then
+        assertEquals(1D, sample.minimum());
+        assertEquals(9D, sample.maximum());
+        assertEquals(3D, sample.get(2));
+        assertEquals(0, sample.rank(0.5D));
+        assertEquals(3, sample.rank(3D));
+        assertEquals(5, sample.rank(10D));
+        assertEquals(0.6D, sample.cumulativeProbability(3D));
+        assertThrows(IndexOutOfBoundsException.class, () -> sample.get(5));
+        assertThrows(IllegalArgumentException.class, () -> sample.quantile(-0.1D));
+    }
+    
+    @Test
+    void shouldHandleNaNAsPolicySays() {
+        // Given
+        double[] input = {4D, Double.NaN, 2D, 8D};
+        
+        // When
+        var propagated = Statistic.sorted(input);
+        var skipped = Statistic.sorted(input, NaNPolicy.SKIP);
+        
+        // Then
+        assertEquals(1, propagated.numberOfNaNs());
+        assertTrue(Double.isNaN(propagated.median()));
+        assertTrue(Double.isNaN(propagated.minimum()));
+        assertEquals(2, propagated.rank(4D));
+        assertEquals(0, propagated.rank(Double.NaN));
+        assertEquals(3, skipped.size());
+        assertEquals(4D, skipped.median());
+        assertEquals(Statistic.median(input, NaNPolicy.SKIP), skipped.median());
+        assertThrows(IllegalArgumentException.class, () -> Statistic.sorted(input, NaNPolicy.FAIL));
+    }
+    
+    @Test
+    void shouldSortRowsAndColumnsOfTable() {
+        // Given
+        var table = new TwoWayTable(new double[][] {{3D, 1D, 2D}, {9D, 7D, 8D}});
+        
+        // When
+        var row = table.sortedRow(1);
+        var column = table.sortedColumn(2);
+        
+        // Then
+        assertEquals(8D, row.median());
+        assertEquals(7D, row.minimum());
+        assertEquals(5D, column.median());
+        assertArrayEquals(new double[] {3D, 1D, 2D}, table.row(0));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Assertions;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class StatisticCollectorsTest {
+
+    private record Reading(double value) {}
+
+    @Test
+    void shouldCollectMomentsOfMappedValues() {
+        // Given
+        var values = new Random(67L).doubles(100_001, -50D, 150D).toArray();
+        List<Reading> readings = Arrays.stream(values).mapToObj(Reading::new).toList();
+        
+        // When
+        double sum = readings.parallelStream().collect(StatisticCollectors.sum(Reading::value));
+        double mean = readings.parallelStream().collect(StatisticCollectors.arithmeticMean(Reading::value));
+        double populationVariance = readings.parallelStream()
+                .collect(StatisticCollectors.populationVariance(Reading::value));
+        double sampleVariance = readings.stream().collect(StatisticCollectors.sampleVariance(Reading::value));
+        double populationStandardDeviation = readings.stream()
+                .collect(StatisticCollectors.populationStandardDeviation(Reading::value));
+        double sampleStandardDeviation = readings.parallelStream()
+                .collect(StatisticCollectors.sampleStandardDeviation(Reading::value));
+        var summary = readings.parallelStream().collect(StatisticCollectors.summarizing(Reading::value));
+        
+        // Then
+        assertEquals(Statistic.sum(values), sum);
+        assertEquals(Statistic.arithmeticMean(values), mean);
+        assertEquals(Statistic.populationVariance(values), populationVariance);
+        assertEquals(Statistic.sampleVariance(values), sampleVariance);
+        assertEquals(Statistic.populationStandardDeviation(values), populationStandardDeviation);
+        assertEquals(Statistic.sampleStandardDeviation(values), sampleStandardDeviation);
+        assertEquals(values.length, summary.count());
+        assertWithinSummaryTolerance(Statistic.arithmeticMean(values), summary.arithmeticMean(), values.length);
+        assertWithinSummaryTolerance(Statistic.sampleVariance(values), summary.sampleVariance(), values.length);
+    }
+    
+    @Test
+    void shouldCollectSameMedianAndQuantilesAsStatistic() {
+        // Given
+        var random = new Random(71L);
+        var values = random.doubles(50_000).toArray();
+        values[17] = Double.NaN;
+        List<Reading> readings = Arrays.stream(values).mapToObj(Reading::new).toList();
+        double[] ps = {0D, 0.1D, 0.5D, 0.99D};
+        
+        // When
+        double median = readings.parallelStream().collect(StatisticCollectors.median(Reading::value));
+        double quantile = readings.stream().collect(StatisticCollectors.quantile(Reading::value, 0.25D));
+        var quantiles = readings.parallelStream().collect(StatisticCollectors.quantiles(Reading::value, ps));
+        
+        // Then
+        assertEquals(Statistic.median(values), median);
+        assertEquals(Statistic.quantile(values, 0.25D), quantile);
+        assertArrayEquals(Statistic.quantiles(values, ps), quantiles);
+    }
+    
+    @Test
+    void shouldReduceDoubleStreams() {
+        // Given
+        var values = new Random(73L).doubles(10_000).toArray();
+        
+        // When
+        var summary = StatisticCollectors.summarize(Arrays.stream(values).parallel());
+        var median = StatisticCollectors.median(Arrays.stream(values).parallel());
+        var quantile = StatisticCollectors.quantile(Arrays.stream(values), 0.9D);
+        var quantiles = StatisticCollectors.quantiles(Arrays.stream(values).parallel(), 0.1D, 0.9D);
+        
+        // Then
+        assertEquals(10_000L, summary.count());
+        assertWithinSummaryTolerance(Statistic.sum(values), summary.sum(), values.length);
+        assertWithinSummaryTolerance(Statistic.sampleVariance(values), summary.sampleVariance(), values.length);
+        assertEquals(Statistic.median(values), median);
+        assertEquals(Statistic.quantile(values, 0.9D), quantile);
+        assertArrayEquals(Statistic.quantiles(values, 0.1D, 0.9D), quantiles);
+    }
+    
+    /*
+     * The documented agreement of summaries with Statistic: a relative error
+     * of at most count times 2^-53.
+     */
+    private static void assertWithinSummaryTolerance(double expected, double actual, long count) {
+        assertEquals(expected, actual, Math.abs(expected) * count * 0x1p-53);
+    }
+    
+    @Test
+    void shouldHandleEmptyStreams() {
+        // When
+        var median = StatisticCollectors.median(DoubleStream.empty());
+        double mean = List.<Reading>of().stream().collect(StatisticCollectors.arithmeticMean(Reading::value));
+        
+        // Then
+        assertEquals(Double.NaN, median);
+        assertEquals(Double.NaN, mean);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> StatisticCollectors.quantile(Reading::value, 2D));
+    }
+}
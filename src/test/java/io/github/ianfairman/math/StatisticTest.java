@@ -15,6 +15,10 @@
  */
 package io.github.ianfairman.math;
 
+import java.math.BigDecimal;
+import static java.math.MathContext.DECIMAL128;
+import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -218,6 +222,126 @@ public class StatisticTest {
         assertEquals(2.138D, result, 0.001D);
     }
     
+    @Test
+    void shouldCalculatePopulationVarianceWithLargeOffset() {
+        // Given
+        double[] input = {1E9D + 4D, 1E9D + 7D, 1E9D + 13D, 1E9D + 16D};
+        
+        // When
+        double result = Statistic.populationVariance(input);
+        
+        // Then
+        assertEquals(22.5D, result);
+    }
+    
+    @Test
+    void shouldCalculateSampleVarianceWithLargeOffset() {
+        // Given
+        double[] input = {1E9D + 4D, 1E9D + 7D, 1E9D + 13D, 1E9D + 16D};
+        
+        // When
+        double result = Statistic.sampleVariance(input);
+        
+        // Then
+        assertEquals(30D, result);
+    }
+    
+    /*
+     * The vector kernels keep one partial sum per lane and reduce them at the
+     * end. With up to eight lanes that reduction adds three roundings to the
+     * one the sequential loop makes, so the result may trail the composition
+     * by up to four ulps in a single trial.
+     */
+    private static final double REASSOCIATION_ULPS = 4D;
+    
+    @Test
+    void shouldCalculatePopulationVarianceAtLeastAsAccuratelyAsElementWiseComposition() {
+        // Given
+        var random = new Random(42L);
+        for (var trial = 0; trial < 20; ++trial) {
+            var input = new double[1000 + trial];
+            for (var i = 0; i < input.length; ++i) {
+                input[i] = 1E8D + random.nextGaussian();
+            }
+            var exact = exactPopulationVariance(input);
+            
+            // When
+            double result = Statistic.populationVariance(input);
+            double composed = Statistic.arithmeticMean(Statistic.square(Statistic.deviation(input)));
+            
+            // Then
+            assertTrue(Math.abs(result - exact) <= Math.abs(composed - exact) + REASSOCIATION_ULPS * Math.ulp(exact));
+            assertEquals(exact, result, exact * 1E-9D);
+        }
+    }
+    
+    @Test
+    void shouldCalculateSampleVarianceCloseToExactValue() {
+        // Given
+        var random = new Random(7L);
+        var input = new double[10_000];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = 1E6D + random.nextDouble();
+        }
+        var exact = exactPopulationVariance(input) * input.length / (input.length - 1);
+        
+        // When
+        double result = Statistic.sampleVariance(input);
+        
+        // Then
+        assertEquals(exact, result, exact * 1E-9D);
+    }
+    
+    private static double exactPopulationVariance(double[] input) {
+        var sum = BigDecimal.ZERO;
+        for (var value : input) {
+            sum = sum.add(new BigDecimal(value));
+        }
+        var mean = sum.divide(BigDecimal.valueOf(input.length), DECIMAL128);
+        var sumOfSquares = BigDecimal.ZERO;
+        for (var value : input) {
+            var deviation = new BigDecimal(value).subtract(mean);
+            sumOfSquares = sumOfSquares.add(deviation.multiply(deviation));
+        }
+        return sumOfSquares.divide(BigDecimal.valueOf(input.length), DECIMAL128).doubleValue();
+    }
+    
+    @Test
+    void shouldMatchSequentialResultsBelowParallelThreshold() {
+        // Given
+        double[] input = {2D, 4D, 4D, 4D, 5D, 5D, 7D, 9D};
+        
+        // Then
+        assertEquals(Statistic.sum(input), Statistic.parallelSum(input));
+        assertEquals(Statistic.arithmeticMean(input), Statistic.parallelArithmeticMean(input));
+        assertEquals(Statistic.populationVariance(input), Statistic.parallelPopulationVariance(input));
+        assertEquals(Statistic.sampleStandardDeviation(input), Statistic.parallelSampleStandardDeviation(input));
+    }
+    
+    @Test
+    void shouldMatchSequentialResultsAboveParallelThreshold() {
+        // Given
+        var random = new Random(23L);
+        var input = new double[Statistic.PARALLEL_THRESHOLD * 8 + 123];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = 1E4D + random.nextGaussian();
+        }
+        
+        // When
+        var sum = Statistic.parallelSum(input);
+        var mean = Statistic.parallelArithmeticMean(input);
+        var populationVariance = Statistic.parallelPopulationVariance(input);
+        var sampleVariance = Statistic.parallelSampleVariance(input);
+        var populationStandardDeviation = Statistic.parallelPopulationStandardDeviation(input);
+        
+        // Then
+        assertEquals(Statistic.sum(input), sum, Math.abs(sum) * 1E-12D);
+        assertEquals(Statistic.arithmeticMean(input), mean, Math.abs(mean) * 1E-12D);
+        assertEquals(Statistic.populationVariance(input), populationVariance, 1E-9D);
+        assertEquals(Statistic.sampleVariance(input), sampleVariance, 1E-9D);
+        assertEquals(Statistic.populationStandardDeviation(input), populationStandardDeviation, 1E-9D);
+    }
+    
     @Test
     void shouldCalculateMedianForSingleItem1() {
         // Given
@@ -302,6 +426,178 @@ public class StatisticTest {
         assertEquals(20D, input[0], 0.001);
     }
     
+    @Test
+    void shouldCalculateMedianUsingScratchBuffer() {
+        // Given
+        double[] input = {9D, 1D, 8D, 2D, 7D, 3D};
+        var scratch = new double[10];
+        
+        // When
+        double result = Statistic.median(input, scratch);
+        
+        // Then
+        assertEquals(5D, result);
+        assertArrayEquals(new double[] {9D, 1D, 8D, 2D, 7D, 3D}, input);
+    }
+    
+    @Test
+    void shouldNotAcceptScratchBufferShorterThanInput() {
+        // Given
+        double[] input = {9D, 1D, 8D};
+        
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> Statistic.median(input, new double[2]));
+    }
+    
+    @Test
+    void shouldMatchSortedMedianForRandomInput() {
+        // Given
+        var random = new Random(3L);
+        for (var length = 1; length < 300; ++length) {
+            var input = new double[length];
+            for (var i = 0; i < length; ++i) {
+                input[i] = random.nextInt(length % 3 == 0 ? 5 : 1000);
+            }
+            var sorted = input.clone();
+            Arrays.sort(sorted);
+            var middle = length / 2;
+            var expected = length % 2 == 0 ? (sorted[middle - 1] + sorted[middle]) / 2D : sorted[middle];
+            
+            // When
+            double result = Statistic.median(input);
+            
+            // Then
+            assertEquals(expected, result);
+        }
+    }
+    
+    @Test
+    void shouldCalculateQuantileByInterpolatingBetweenOrderStatistics() {
+        // Given
+        double[] input = {40D, 10D, 30D, 20D, 50D};
+        
+        // When
+        double result = Statistic.quantile(input, 0.3D);
+        
+        // Then
+        assertEquals(22D, result, 1E-12D);
+    }
+    
+    @Test
+    void shouldCalculateExtremeQuantilesAsMinimumAndMaximum() {
+        // Given
+        double[] input = {4D, -3D, 12D, 7D};
+        
+        // When
+        double[] result = Statistic.quantiles(input, 0D, 1D);
+        
+        // Then
+        assertArrayEquals(new double[] {-3D, 12D}, result);
+    }
+    
+    @Test
+    void shouldCalculateMedianAsHalfQuantile() {
+        // Given
+        double[] input = {10D, 20D, 30D, 40D};
+        
+        // When
+        double result = Statistic.quantile(input, 0.5D);
+        
+        // Then
+        assertEquals(Statistic.median(input), result);
+    }
+    
+    @Test
+    void shouldCalculateSeveralQuantilesInOneCall() {
+        // Given
+        var random = new Random(11L);
+        var input = new double[1001];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextDouble();
+        }
+        var sorted = input.clone();
+        Arrays.sort(sorted);
+        
+        // When
+        double[] result = Statistic.quantiles(input, 0.9D, 0.1D, 0.25D, 0.5D, 0.75D);
+        
+        // Then
+        assertArrayEquals(new double[] {sorted[900], sorted[100], sorted[250], sorted[500], sorted[750]}, result);
+    }
+    
+    @Test
+    void shouldCalculatePercentile() {
+        // Given
+        double[] input = {1D, 2D, 3D, 4D, 5D, 6D, 7D, 8D, 9D, 10D, 11D};
+        
+        // When
+        double result = Statistic.percentile(input, 90D);
+        
+        // Then
+        assertEquals(10D, result);
+    }
+    
+    @Test
+    void shouldNotAcceptQuantileOutsideUnitInterval() {
+        // Given
+        double[] input = {1D, 2D, 3D};
+        
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> Statistic.quantile(input, 1.5D));
+        assertThrows(IllegalArgumentException.class, () -> Statistic.quantile(input, Double.NaN));
+    }
+    
+    @Test
+    void shouldCalculateReductionsOverSlice() {
+        // Given
+        double[] input = {1000D, 2D, 4D, 4D, 4D, 5D, 5D, 7D, 9D, -1000D};
+        
+        // Then
+        assertEquals(40D, Statistic.sum(input, 1, 8));
+        assertEquals(5D, Statistic.arithmeticMean(input, 1, 8));
+        assertEquals(4D, Statistic.populationVariance(input, 1, 8));
+        assertEquals(2D, Statistic.populationStandardDeviation(input, 1, 8));
+        assertEquals(32D / 7D, Statistic.sampleVariance(input, 1, 8), 1E-12D);
+        assertEquals(Math.sqrt(32D / 7D), Statistic.sampleStandardDeviation(input, 1, 8), 1E-12D);
+        assertEquals(40D, Statistic.parallelSum(input, 1, 8));
+        assertEquals(4D, Statistic.parallelPopulationVariance(input, 1, 8));
+    }
+    
+    @Test
+    void shouldCalculateOrderStatisticsOverSlice() {
+        // Given
+        double[] input = {-50D, 30D, 10D, 20D, 40D, 50D};
+        
+        // Then
+        assertEquals(25D, Statistic.median(input, 1, 4));
+        assertEquals(25D, Statistic.median(input, 1, 4, new double[4]));
+        assertEquals(10D, Statistic.quantile(input, 1, 4, 0D));
+        assertEquals(40D, Statistic.percentile(input, 1, 4, 100D));
+        assertArrayEquals(new double[] {-50D, 50D}, Statistic.quantiles(input, 0, 6, new double[] {0D, 1D}));
+        assertArrayEquals(new double[] {30D, 10D, 20D, 40D}, Statistic.subtractFromAll(input, 1, 4, 0D));
+    }
+    
+    @Test
+    void shouldCalculateElementWiseOperationsOverSlice() {
+        // Given
+        double[] input = {100D, 1D, 9D, 100D};
+        
+        // Then
+        assertArrayEquals(new double[] {-4D, 4D}, Statistic.deviation(input, 1, 2));
+        assertArrayEquals(new double[] {1D, 81D}, Statistic.square(input, 1, 2));
+    }
+    
+    @Test
+    void shouldNotAcceptSliceOutsideInput() {
+        // Given
+        double[] input = {1D, 2D, 3D};
+        
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.sum(input, 2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.median(input, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.deviation(input, 1, 3));
+    }
+    
     @Test
     void shouldSubtractValueFromEveryElementInArray0() {
         // Given
@@ -325,4 +621,346 @@ public class StatisticTest {
         // Then
         assertArrayEquals(new double[]{-15D, -14D, -12D, -8D}, output);
      }
+    
+    @Test
+    void shouldPropagateNaNByDefault() {
+        // Given
+        double[] input = {1D, Double.NaN, 3D, 4D};
+        
+        // Then
+        assertTrue(Double.isNaN(Statistic.sum(input)));
+        assertTrue(Double.isNaN(Statistic.arithmeticMean(input)));
+        assertTrue(Double.isNaN(Statistic.median(input)));
+        assertTrue(Double.isNaN(Statistic.quantile(input, 0.1D)));
+        assertTrue(Double.isNaN(Statistic.sampleVariance(input, NaNPolicy.PROPAGATE)));
+        assertTrue(Double.isNaN(Statistic.median(input, NaNPolicy.PROPAGATE)));
+    }
+    
+    @Test
+    void shouldSkipNaNWhenAsked() {
+        // Given
+        var random = new Random(83L);
+        var input = new double[1001];
+        var withoutNaN = new double[input.length];
+        var count = 0;
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextInt(10) == 0 ? Double.NaN : 50D + random.nextGaussian();
+            if (!Double.isNaN(input[i])) {
+                withoutNaN[count++] = input[i];
+            }
+        }
+        withoutNaN = Arrays.copyOf(withoutNaN, count);
+        
+        // Then
+        assertEquals(Statistic.sum(withoutNaN), Statistic.sum(input, NaNPolicy.SKIP), 1E-9);
+        assertEquals(Statistic.arithmeticMean(withoutNaN), Statistic.arithmeticMean(input, NaNPolicy.SKIP), 1E-12);
+        assertEquals(Statistic.populationVariance(withoutNaN),
+                Statistic.populationVariance(input, NaNPolicy.SKIP), 1E-12);
+        assertEquals(Statistic.sampleStandardDeviation(withoutNaN),
+                Statistic.sampleStandardDeviation(input, NaNPolicy.SKIP), 1E-12);
+        assertEquals(Statistic.median(withoutNaN), Statistic.median(input, NaNPolicy.SKIP));
+        assertArrayEquals(Statistic.quantiles(withoutNaN, 0.1D, 0.9D),
+                Statistic.quantiles(input, new double[] {0.1D, 0.9D}, NaNPolicy.SKIP));
+    }
+    
+    @Test
+    void shouldSkipNaNInParallelReductions() {
+        // Given
+        var random = new Random(89L);
+        var input = new double[Statistic.PARALLEL_THRESHOLD * 2];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = i % 7 == 0 ? Double.NaN : random.nextGaussian();
+        }
+        
+        // Then
+        assertEquals(Statistic.sum(input, NaNPolicy.SKIP), Statistic.parallelSum(input, NaNPolicy.SKIP), 1E-9);
+        assertEquals(Statistic.populationVariance(input, NaNPolicy.SKIP),
+                Statistic.parallelPopulationVariance(input, NaNPolicy.SKIP), 1E-12);
+        assertThrows(IllegalArgumentException.class, () -> Statistic.parallelArithmeticMean(input, NaNPolicy.FAIL));
+    }
+    
+    @Test
+    void shouldFailOnNaNWhenAsked() {
+        // Given
+        double[] input = {1D, 2D, Double.NaN};
+        
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> Statistic.sum(input, NaNPolicy.FAIL));
+        assertThrows(IllegalArgumentException.class, () -> Statistic.sampleVariance(input, NaNPolicy.FAIL));
+        assertThrows(IllegalArgumentException.class, () -> Statistic.median(input, NaNPolicy.FAIL));
+        assertThrows(IllegalArgumentException.class, () -> Statistic.quantile(input, 0.5D, NaNPolicy.FAIL));
+        assertEquals(1.5D, Statistic.arithmeticMean(input, 0, 2, NaNPolicy.FAIL));
+    }
+    
+    @Test
+    void shouldTreatInfinitiesAsValuesUnderEveryPolicy() {
+        // Given
+        double[] input = {Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1D};
+        
+        // Then
+        for (var policy : NaNPolicy.values()) {
+            assertTrue(Double.isNaN(Statistic.sum(input, policy)));
+            assertEquals(1D, Statistic.median(input, policy));
+        }
+    }
+    
+    @Test
+    void shouldSumIllConditionedInputAccuratelyWithCompensatedSummations() {
+        // Given
+        var input = new double[1_000_001];
+        input[0] = 1D;
+        Arrays.fill(input, 1, input.length, 1E-16D);
+        var exact = new BigDecimal(1D).add(new BigDecimal(1E-16D).multiply(BigDecimal.valueOf(1_000_000L)))
+                .doubleValue();
+        
+        // Then
+        assertEquals(1D, Statistic.sum(input, Summation.NAIVE));
+        assertEquals(exact, Statistic.sum(input, Summation.NEUMAIER), 1E-15);
+        assertEquals(exact, Statistic.sum(input, Summation.PAIRWISE), 1E-13);
+        // The first block may lose its small values to the one large value
+        // when the kernel has a single accumulator.
+        assertEquals(exact, Statistic.sum(input, Summation.BLOCKED), 2E-13);
+        assertEquals(exact / input.length, Statistic.arithmeticMean(input, Summation.NEUMAIER), 1E-21);
+    }
+    
+    @Test
+    void shouldSumCancellingInputMoreAccuratelyThanNaiveSummation() {
+        // Given
+        var random = new Random(149L);
+        var input = new double[100_000];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextDouble();
+        }
+        input[0] = 1E16D;
+        input[input.length - 1] = -1E16D;
+        var exact = BigDecimal.ZERO;
+        for (var value : input) {
+            exact = exact.add(new BigDecimal(value));
+        }
+        var naiveError = new BigDecimal(Statistic.sum(input, Summation.NAIVE)).subtract(exact).abs();
+        
+        for (var summation : new Summation[] {Summation.NEUMAIER, Summation.PAIRWISE, Summation.BLOCKED}) {
+            // When
+            var error = new BigDecimal(Statistic.sum(input, summation)).subtract(exact).abs();
+            
+            // Then
+            assertTrue(error.compareTo(naiveError) < 0);
+        }
+    }
+    
+    @Test
+    void shouldFindVarianceOfOffsetInputMoreAccuratelyThanNaiveSummation() {
+        // Given
+        var random = new Random(151L);
+        var input = new double[100_000];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = 1E9D + random.nextGaussian();
+        }
+        var exact = exactPopulationVariance(input);
+        var naiveError = Math.abs(Statistic.populationVariance(input, Summation.NAIVE) - exact);
+        
+        for (var summation : new Summation[] {Summation.NEUMAIER, Summation.PAIRWISE, Summation.BLOCKED}) {
+            // When
+            var error = Math.abs(Statistic.populationVariance(input, summation) - exact);
+            
+            // Then
+            assertTrue(error < naiveError);
+        }
+    }
+    
+    @Test
+    void shouldFindVarianceWithEverySummation() {
+        // Given
+        var random = new Random(113L);
+        var input = new double[10_007];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = 1E9 + random.nextGaussian();
+        }
+        var exact = exactPopulationVariance(input);
+        
+        for (var summation : Summation.values()) {
+            // When
+            var populationVariance = Statistic.populationVariance(input, summation);
+            var sampleStandardDeviation = Statistic.sampleStandardDeviation(input, 3, 10_000, summation);
+            
+            // Then
+            assertEquals(exact, populationVariance, exact * 1E-6);
+            assertEquals(Statistic.sampleStandardDeviation(input, 3, 10_000), sampleStandardDeviation, 1E-6);
+        }
+    }
+    
+    @Test
+    void shouldMatchDoubleResultsForFloatInput() {
+        // Given
+        var random = new Random(127L);
+        var input = new float[1_001];
+        var widened = new double[input.length];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = (float) (100D + random.nextGaussian());
+            widened[i] = input[i];
+        }
+        
+        // Then
+        assertEquals(Statistic.sum(widened), Statistic.sum(input), 1E-9);
+        assertEquals(Statistic.arithmeticMean(widened), Statistic.arithmeticMean(input), 1E-12);
+        assertEquals(Statistic.populationVariance(widened), Statistic.populationVariance(input), 1E-12);
+        assertEquals(Statistic.sampleStandardDeviation(widened, 5, 900),
+                Statistic.sampleStandardDeviation(input, 5, 900), 1E-12);
+        assertEquals(Statistic.median(widened), Statistic.median(input));
+        assertEquals(Statistic.median(widened, 1, 1_000), Statistic.median(input, 1, 1_000));
+    }
+    
+    @Test
+    void shouldPropagateNaNInMedianOfFloats() {
+        // Given
+        var input = new float[] {3F, Float.NaN, 1F};
+        
+        // When
+        var median = Statistic.median(input);
+        
+        // Then
+        assertTrue(Double.isNaN(median));
+    }
+    
+    @Test
+    void shouldMatchDoubleResultsForIntInput() {
+        // Given
+        var random = new Random(131L);
+        var input = new int[1_000];
+        var widened = new double[input.length];
+        var exactSum = 0L;
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextInt();
+            widened[i] = input[i];
+            exactSum += input[i];
+        }
+        
+        // Then
+        assertEquals(exactSum, Statistic.sum(input));
+        assertEquals(Statistic.arithmeticMean(widened), Statistic.arithmeticMean(input), 1E-3);
+        double populationVariance = Statistic.populationVariance(input);
+        assertEquals(Statistic.populationVariance(widened), populationVariance, populationVariance * 1E-12);
+        assertEquals(Statistic.median(widened), Statistic.median(input));
+        assertEquals(Statistic.median(widened, 0, 999), Statistic.median(input, 0, 999));
+    }
+    
+    @Test
+    void shouldSumIntsWithoutOverflow() {
+        // Given
+        var input = new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        
+        // Then
+        assertEquals(3L * Integer.MAX_VALUE, Statistic.sum(input));
+        assertEquals(Integer.MAX_VALUE, Statistic.arithmeticMean(input));
+        assertEquals(Integer.MAX_VALUE, Statistic.median(input));
+    }
+    
+    @Test
+    void shouldFindExactMeanOfLongsWhoseSumOverflows() {
+        // Given
+        var input = new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MAX_VALUE - 4};
+        
+        // When
+        var mean = Statistic.arithmeticMean(input);
+        
+        // Then
+        assertEquals((double) (Long.MAX_VALUE - 2), mean);
+        assertThrows(ArithmeticException.class, () -> Statistic.sum(input));
+    }
+    
+    @Test
+    void shouldMatchDoubleResultsForLongInput() {
+        // Given
+        var random = new Random(137L);
+        var input = new long[1_000];
+        var widened = new double[input.length];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = random.nextInt(1_000_000) - 500_000L;
+            widened[i] = input[i];
+        }
+        
+        // Then
+        assertEquals((long) Statistic.sum(widened), Statistic.sum(input));
+        assertEquals(Statistic.arithmeticMean(widened), Statistic.arithmeticMean(input), 1E-9);
+        assertEquals(Statistic.sampleVariance(widened), Statistic.sampleVariance(input), 1E-3);
+        assertEquals(Statistic.populationStandardDeviation(widened, 10, 500),
+                Statistic.populationStandardDeviation(input, 10, 500), 1E-6);
+        assertEquals(Statistic.median(widened), Statistic.median(input));
+        assertEquals(Statistic.median(widened, 2, 997), Statistic.median(input, 2, 997));
+    }
+    
+    @Test
+    void shouldFindMedianOfLargeLongsWithoutOverflow() {
+        // Given
+        var input = new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 1};
+        
+        // When
+        var median = Statistic.median(input);
+        
+        // Then
+        assertEquals((double) Long.MAX_VALUE, median);
+    }
+    
+    @Test
+    void shouldWriteElementWiseResultsIntoDestination() {
+        // Given
+        var input = new double[] {9D, 1D, 2D, 3D, 6D, 9D};
+        var destination = new double[] {-1D, -1D, -1D, -1D, -1D, -1D};
+        
+        // Then
+        assertSame(destination, Statistic.deviation(input, 1, 4, destination, 2));
+        assertArrayEquals(new double[] {-1D, -1D, -2D, -1D, 0D, 3D}, destination);
+        assertSame(destination, Statistic.square(input, 1, 3, destination, 0));
+        assertArrayEquals(new double[] {1D, 4D, 9D, -1D, 0D, 3D}, destination);
+        assertSame(destination, Statistic.subtractFromAll(input, 0, 2, 1D, destination, 4));
+        assertArrayEquals(new double[] {1D, 4D, 9D, -1D, 8D, 0D}, destination);
+        assertSame(destination, Statistic.squaredDeviation(input, 1, 4, destination, 1));
+        assertArrayEquals(new double[] {1D, 4D, 1D, 0D, 9D, 0D}, destination);
+    }
+    
+    @Test
+    void shouldTransformInPlace() {
+        // Given
+        var input = new double[] {9D, 1D, 2D, 3D, 6D, 9D};
+        
+        // Then
+        assertSame(input, Statistic.deviationInPlace(input, 1, 4));
+        assertArrayEquals(new double[] {9D, -2D, -1D, 0D, 3D, 9D}, input);
+        assertSame(input, Statistic.squareInPlace(input, 1, 4));
+        assertArrayEquals(new double[] {9D, 4D, 1D, 0D, 9D, 9D}, input);
+        assertSame(input, Statistic.subtractFromAllInPlace(input, 1D));
+        assertArrayEquals(new double[] {8D, 3D, 0D, -1D, 8D, 8D}, input);
+        assertSame(input, Statistic.squaredDeviationInPlace(input, 3, 3));
+        assertArrayEquals(new double[] {8D, 3D, 0D, 36D, 9D, 9D}, input);
+    }
+    
+    @Test
+    void shouldMatchComposedSquaredDeviation() {
+        // Given
+        var random = new Random(139L);
+        var input = new double[1_003];
+        for (var i = 0; i < input.length; ++i) {
+            input[i] = 50D + random.nextGaussian();
+        }
+        
+        // When
+        var result = Statistic.squaredDeviation(input);
+        
+        // Then
+        assertArrayEquals(Statistic.square(Statistic.deviation(input)), result);
+        assertArrayEquals(result, Statistic.squaredDeviationInPlace(input.clone()));
+    }
+    
+    @Test
+    void shouldRejectShortDestination() {
+        // Given
+        var input = new double[] {1D, 2D, 3D};
+        var destination = new double[3];
+        
+        // Then
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.deviation(input, 0, 3, destination, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.square(input, 0, 3, destination, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.subtractFromAll(input, 0, 3, 1D, destination, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Statistic.squaredDeviation(input, 0, 3, destination, 1));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.file.Files;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class TableStorageTest {
+
+    @Test
+    void shouldTransposeColumnBlocksInEveryStorage() throws IOException {
+        // Given
+        var random = new Random(19L);
+        var array = new double[75][50];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextDouble();
+            }
+        }
+        var expected = new double[75 * 37];
+        for (var column = 5; column < 42; ++column) {
+            for (var row = 0; row < 75; ++row) {
+                expected[(column - 5) * 75 + row] = array[row][column];
+            }
+        }
+        var file = Files.createTempFile("table", ".bin");
+        try (var arena = Arena.ofConfined()) {
+            TableFile.write(new JaggedStorage(array), file);
+            TableStorage[] storages = {
+                new JaggedStorage(array),
+                RowMajorStorage.copyOf(array),
+                ColumnMajorStorage.copyOf(array),
+                TableFile.map(file, arena)
+            };
+            for (var storage : storages) {
+                var destination = new double[75 * 37];
+
+                // When
+                storage.copyColumns(5, 42, destination);
+
+                // Then
+                assertArrayEquals(expected, destination);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldCopyRowsAndColumnsInEveryLayout() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, 5D, 6D}};
+        TableStorage[] storages = {
+            new JaggedStorage(array),
+            RowMajorStorage.copyOf(array),
+            ColumnMajorStorage.copyOf(array)
+        };
+        for (var storage : storages) {
+            var row = new double[4];
+            var column = new double[3];
+
+            // When
+            storage.copyRow(1, row, 1);
+            storage.copyColumn(2, column, 1);
+
+            // Then
+            assertArrayEquals(new double[] {0D, 4D, 5D, 6D}, row);
+            assertArrayEquals(new double[] {0D, 3D, 6D}, column);
+        }
+    }
+}
@@ -15,10 +15,17 @@
  */
 package io.github.ianfairman.math;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import org.junit.jupiter.api.Test;
 
@@ -301,4 +308,658 @@ public class TwoWayTableTest {
         // Then
         assertNotEquals(table0, table1);
     }
+    
+    @Test
+    void shouldSupportEveryOperationInEveryLayout() {
+        // Given
+        double[][] array = {{5D, 1D, 4D, 7D}, {1D, 5D, 5D, 7D}, {100D, -1D, 1D, 87D}};
+        var jagged = new TwoWayTable(array);
+        for (var layout : TwoWayTable.Layout.values()) {
+            
+            // When
+            var table = new TwoWayTable(array, layout);
+            
+            // Then
+            assertEquals(3, table.numberOfRows());
+            assertEquals(4, table.numberOfColumns());
+            assertEquals(87D, table.get(2, 3));
+            assertArrayEquals(new double[] {1D, 5D, 5D, 7D}, table.row(1));
+            assertArrayEquals(new double[] {4D, 5D, 1D}, table.column(2));
+            assertEquals(4.5D, table.medianOfRow(0));
+            assertEquals(1D, table.medianOfColumn(1));
+            assertArrayEquals(jagged.mediansOfRows(), table.mediansOfRows());
+            assertArrayEquals(jagged.mediansOfColumns(), table.mediansOfColumns());
+            assertEquals(jagged, table);
+            assertEquals(jagged.hashCode(), table.hashCode());
+        }
+    }
+    
+    @Test
+    void shouldCopyArrayIntoFlatLayout() {
+        // Given
+        double[][] array = {{2D, 3D}, {5D, 6D}};
+        var table = TwoWayTable.forRowAccess(array);
+        
+        // When
+        array[0][0] = 100D;
+        
+        // Then
+        assertEquals(2D, table.get(0, 0));
+    }
+    
+    @Test
+    void shouldNotAcceptNonRectangularArrayInFlatLayout() {
+        // Given
+        double[][] array = {{2D, 3D, 4D}, {5D, 6D}};
+        
+        // Then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TwoWayTable.forColumnAccess(array));
+    }
+    
+    @Test
+    void shouldNotEqualTableWithDifferentShape() {
+        // Given
+        var table0 = TwoWayTable.forRowAccess(new double[][] {{1D, 2D, 3D, 4D}});
+        var table1 = TwoWayTable.forRowAccess(new double[][] {{1D, 2D}, {3D, 4D}});
+        
+        // Then
+        assertNotEquals(table0, table1);
+    }
+    
+    @Test
+    void shouldMapTableWrittenToFile() throws IOException {
+        // Given
+        double[][] array = {{5D, 1D, 4D, 7D}, {1D, 5D, 5D, 7D}, {100D, -1D, 1D, 87D}};
+        var table = new TwoWayTable(array);
+        var file = Files.createTempFile("table", ".bin");
+        try {
+            table.writeTo(file);
+            
+            // When
+            try (var arena = Arena.ofConfined()) {
+                var mapped = TwoWayTable.map(file, arena);
+                
+                // Then
+                assertEquals(16L + 12L * Double.BYTES, Files.size(file));
+                assertEquals(3, mapped.numberOfRows());
+                assertEquals(4, mapped.numberOfColumns());
+                assertArrayEquals(new double[] {100D, -1D, 1D, 87D}, mapped.row(2));
+                assertArrayEquals(new double[] {7D, 7D, 87D}, mapped.column(3));
+                assertArrayEquals(table.mediansOfRows(), mapped.mediansOfRows());
+                assertArrayEquals(table.mediansOfColumns(), mapped.mediansOfColumns());
+                assertEquals(table, mapped);
+                assertEquals(table.hashCode(), mapped.hashCode());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldRejectRowsAndColumnsOutsideMappedTable() throws IOException {
+        // Given
+        var file = Files.createTempFile("table", ".bin");
+        try {
+            new TwoWayTable(new double[][] {{1D, 2D, 3D, 4D}, {5D, 6D, 7D, 8D}, {9D, 10D, 11D, 12D}}).writeTo(file);
+            try (var arena = Arena.ofConfined()) {
+                
+                // When
+                var mapped = TwoWayTable.map(file, arena);
+                
+                // Then
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(0, 4));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(3, 0));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.row(3));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.column(4));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.column(-1));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.medianOfRow(-1));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.medianOfColumn(4));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.sortedRow(3));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.sortedColumn(4));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldReleaseMappedTableWhenArenaIsClosed() throws IOException {
+        // Given
+        var file = Files.createTempFile("table", ".bin");
+        try {
+            new TwoWayTable(new double[][] {{1D, 2D}, {3D, 4D}}).writeTo(file);
+            TwoWayTable mapped;
+            try (var arena = Arena.ofConfined()) {
+                mapped = TwoWayTable.map(file, arena);
+            }
+            
+            // Then
+            Assertions.assertThrows(IllegalStateException.class, () -> mapped.get(0, 0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldNotMapFileWithoutTableHeader() throws IOException {
+        // Given
+        var file = Files.createTempFile("table", ".bin");
+        try {
+            Files.write(file, new byte[32]);
+            
+            // Then
+            try (var arena = Arena.ofConfined()) {
+                Assertions.assertThrows(IOException.class, () -> TwoWayTable.map(file, arena));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldFindMediansInParallelForSmallTable() {
+        // Given
+        double[][] array = {{5D, 1D, 4D, 7D}, {1D, 5D, 5D, 7D}, {100D, -1D, 1D, 87D}};
+        var table = new TwoWayTable(array);
+        
+        // Then
+        assertArrayEquals(table.mediansOfRows(), table.parallelMediansOfRows());
+        assertArrayEquals(table.mediansOfColumns(), table.parallelMediansOfColumns());
+    }
+    
+    @Test
+    void shouldFindMediansInParallelForLargeTable() {
+        // Given
+        var random = new Random(13L);
+        var array = new double[700][300];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextGaussian();
+            }
+        }
+        for (var table : new TwoWayTable[] {new TwoWayTable(array), TwoWayTable.forColumnAccess(array)}) {
+            
+            // When
+            var mediansOfRows = table.parallelMediansOfRows();
+            var mediansOfColumns = table.parallelMediansOfColumns();
+            
+            // Then
+            assertArrayEquals(table.mediansOfRows(), mediansOfRows);
+            assertArrayEquals(table.mediansOfColumns(), mediansOfColumns);
+        }
+    }
+    
+    @Test
+    void shouldFindMediansOfColumnsOfTallTable() {
+        // Given
+        var random = new Random(29L);
+        var array = new double[50_000][3];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextInt(1000);
+            }
+        }
+        var table = new TwoWayTable(array);
+        
+        // When
+        var medians = table.mediansOfColumns();
+        
+        // Then
+        for (var column = 0; column < 3; ++column) {
+            assertEquals(Statistic.median(table.column(column)), medians[column]);
+        }
+    }
+    
+    @Test
+    void shouldFindMediansOfColumnsAcrossSeveralBlocks() {
+        // Given
+        var random = new Random(41L);
+        var array = new double[1000][100];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextGaussian();
+            }
+        }
+        for (var table : new TwoWayTable[] {new TwoWayTable(array), TwoWayTable.forRowAccess(array)}) {
+            
+            // When
+            var medians = table.mediansOfColumns();
+            
+            // Then
+            for (var column = 0; column < 100; ++column) {
+                assertEquals(table.medianOfColumn(column), medians[column]);
+            }
+        }
+    }
+    
+    private static double[][] offsetGaussianArray(long seed) {
+        var random = new Random(seed);
+        var array = new double[37][11];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = 1E6 + random.nextGaussian();
+            }
+        }
+        return array;
+    }
+    
+    private static TwoWayTable[] everyLayoutOf(double[][] array) {
+        return new TwoWayTable[] {
+            new TwoWayTable(array),
+            TwoWayTable.forRowAccess(array),
+            TwoWayTable.forColumnAccess(array),
+            TwoWayTable.copyOf(array)
+        };
+    }
+    
+    @Test
+    void shouldSumRowsAndColumnsAsStatisticDoes() {
+        // Given
+        var array = offsetGaussianArray(43L);
+        for (var table : everyLayoutOf(array)) {
+            
+            // When
+            var sumsOfRows = table.sumsOfRows();
+            var sumsOfColumns = table.sumsOfColumns();
+            
+            // Then
+            for (var row = 0; row < 37; ++row) {
+                assertEquals(Statistic.sum(table.row(row)), sumsOfRows[row]);
+            }
+            for (var column = 0; column < 11; ++column) {
+                assertEquals(Statistic.sum(table.column(column)), sumsOfColumns[column]);
+            }
+        }
+    }
+    
+    @Test
+    void shouldFindMeansOfRowsAndColumnsAsStatisticDoes() {
+        // Given
+        var array = offsetGaussianArray(47L);
+        for (var table : everyLayoutOf(array)) {
+            
+            // When
+            var meansOfRows = table.arithmeticMeansOfRows();
+            var meansOfColumns = table.arithmeticMeansOfColumns();
+            
+            // Then
+            for (var row = 0; row < 37; ++row) {
+                assertEquals(Statistic.arithmeticMean(table.row(row)), meansOfRows[row]);
+            }
+            for (var column = 0; column < 11; ++column) {
+                assertEquals(Statistic.arithmeticMean(table.column(column)), meansOfColumns[column]);
+            }
+        }
+    }
+    
+    @Test
+    void shouldFindVariancesOfRowsAndColumnsAsStatisticDoes() {
+        // Given
+        var array = offsetGaussianArray(53L);
+        for (var table : everyLayoutOf(array)) {
+            
+            // When
+            var populationVariancesOfRows = table.populationVariancesOfRows();
+            var sampleVariancesOfRows = table.sampleVariancesOfRows();
+            var populationVariancesOfColumns = table.populationVariancesOfColumns();
+            var sampleVariancesOfColumns = table.sampleVariancesOfColumns();
+            
+            // Then
+            for (var row = 0; row < 37; ++row) {
+                var values = table.row(row);
+                assertEquals(Statistic.populationVariance(values), populationVariancesOfRows[row]);
+                assertEquals(Statistic.sampleVariance(values), sampleVariancesOfRows[row]);
+            }
+            for (var column = 0; column < 11; ++column) {
+                var values = table.column(column);
+                assertEquals(Statistic.populationVariance(values), populationVariancesOfColumns[column]);
+                assertEquals(Statistic.sampleVariance(values), sampleVariancesOfColumns[column]);
+            }
+        }
+    }
+    
+    @Test
+    void shouldFindStandardDeviationsOfRowsAndColumnsAsStatisticDoes() {
+        // Given
+        var array = offsetGaussianArray(59L);
+        for (var table : everyLayoutOf(array)) {
+            
+            // When
+            var populationOfRows = table.populationStandardDeviationsOfRows();
+            var sampleOfRows = table.sampleStandardDeviationsOfRows();
+            var populationOfColumns = table.populationStandardDeviationsOfColumns();
+            var sampleOfColumns = table.sampleStandardDeviationsOfColumns();
+            
+            // Then
+            for (var row = 0; row < 37; ++row) {
+                var values = table.row(row);
+                assertEquals(Statistic.populationStandardDeviation(values), populationOfRows[row]);
+                assertEquals(Statistic.sampleStandardDeviation(values), sampleOfRows[row]);
+            }
+            for (var column = 0; column < 11; ++column) {
+                var values = table.column(column);
+                assertEquals(Statistic.populationStandardDeviation(values), populationOfColumns[column]);
+                assertEquals(Statistic.sampleStandardDeviation(values), sampleOfColumns[column]);
+            }
+        }
+    }
+    
+    @Test
+    void shouldSummariseRowsAndColumns() {
+        // Given
+        var array = offsetGaussianArray(61L);
+        for (var table : everyLayoutOf(array)) {
+            
+            // When
+            var summaryOfRows = table.summaryOfRows();
+            var summaryOfColumns = table.summaryOfColumns();
+            
+            // Then
+            for (var row = 0; row < 37; ++row) {
+                var values = table.row(row);
+                assertEquals(11L, summaryOfRows[row].count());
+                assertEquals(Statistic.sum(values), summaryOfRows[row].sum());
+                assertEquals(Statistic.populationVariance(values), summaryOfRows[row].populationVariance());
+            }
+            for (var column = 0; column < 11; ++column) {
+                var values = table.column(column);
+                assertEquals(37L, summaryOfColumns[column].count());
+                assertEquals(Statistic.sum(values), summaryOfColumns[column].sum());
+                assertEquals(Statistic.populationVariance(values), summaryOfColumns[column].populationVariance());
+            }
+        }
+    }
+    
+    @Test
+    void shouldSummariseColumnsWiderThanOneBlock() {
+        // Given
+        var random = new Random(67L);
+        var array = new double[8][5_000];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextGaussian();
+            }
+        }
+        var table = new TwoWayTable(array);
+        
+        // When
+        var summaryOfColumns = table.summaryOfColumns();
+        var sampleVariancesOfColumns = table.sampleVariancesOfColumns();
+        
+        // Then
+        for (var column = 0; column < 5_000; ++column) {
+            var values = table.column(column);
+            assertEquals(Statistic.arithmeticMean(values), summaryOfColumns[column].arithmeticMean());
+            assertEquals(Statistic.sampleVariance(values), sampleVariancesOfColumns[column]);
+        }
+    }
+    
+    @Test
+    void shouldSummariseTableWithNoColumns() {
+        // Given
+        var table = new TwoWayTable(new double[2][0]);
+        
+        // Then
+        assertEquals(0, table.sumsOfColumns().length);
+        assertEquals(0, table.populationVariancesOfColumns().length);
+        assertEquals(0, table.summaryOfColumns().length);
+        assertArrayEquals(new double[] {0D, 0D}, table.sumsOfRows());
+    }
+    
+    @Test
+    void shouldNotExposeCachedMedians() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {6D, 5D, 4D}};
+        var table = TwoWayTable.copyOf(array);
+        
+        // When
+        table.mediansOfRows()[0] = 99D;
+        table.mediansOfColumns()[0] = 99D;
+        table.summaryOfRows()[0].accept(99D);
+        array[0][0] = 99D;
+        
+        // Then
+        assertTrue(table.isImmutable());
+        assertArrayEquals(new double[] {2D, 5D}, table.mediansOfRows());
+        assertArrayEquals(new double[] {3.5D, 3.5D, 3.5D}, table.mediansOfColumns());
+        assertEquals(3L, table.summaryOfRows()[0].count());
+        assertEquals(new TwoWayTable(new double[][] {{1D, 2D, 3D}, {6D, 5D, 4D}}).hashCode(), table.hashCode());
+    }
+    
+    @Test
+    void shouldSeeChangesToWrappedArray() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {6D, 5D, 4D}};
+        var table = new TwoWayTable(array);
+        var hash = table.hashCode();
+        
+        // When
+        table.mediansOfRows();
+        array[0][1] = 10D;
+        
+        // Then
+        assertFalse(table.isImmutable());
+        assertArrayEquals(new double[] {3D, 5D}, table.mediansOfRows());
+        assertNotEquals(hash, table.hashCode());
+        assertTrue(table.immutableCopy().isImmutable());
+        assertEquals(table, table.immutableCopy());
+    }
+    
+    @Test
+    void shouldBuildTablesThatDoNotSeeLaterChanges() {
+        // Given
+        var builder = TwoWayTable.builder(2, 3)
+                .setRow(0, 1D, 2D, 3D)
+                .setColumn(2, 3D, 4D)
+                .set(1, 0, 6D)
+                .set(1, 1, 5D);
+        var first = builder.build();
+        var firstMedians = first.mediansOfRows();
+        
+        // When
+        var second = builder.set(0, 1, 10D).build();
+        
+        // Then
+        assertEquals(new TwoWayTable(new double[][] {{1D, 2D, 3D}, {6D, 5D, 4D}}), first);
+        assertArrayEquals(firstMedians, first.mediansOfRows());
+        assertArrayEquals(new double[] {3D, 5D}, second.mediansOfRows());
+        assertEquals(2D, first.get(0, 1));
+        assertEquals(10D, second.get(0, 1));
+        assertNotEquals(first, second);
+    }
+    
+    @Test
+    void shouldStartBuilderFromTable() {
+        // Given
+        var table = TwoWayTable.copyOf(new double[][] {{1D, 2D}, {3D, 4D}});
+        
+        // When
+        var changed = table.toBuilder().set(1, 1, 8D).build();
+        
+        // Then
+        assertEquals(4D, table.get(1, 1));
+        assertEquals(8D, changed.get(1, 1));
+        assertArrayEquals(new double[] {1.5D, 5.5D}, changed.mediansOfRows());
+    }
+    
+    @Test
+    void shouldRejectCellsOutsideBuilder() {
+        // Given
+        var builder = TwoWayTable.builder(2, 2);
+        
+        // Then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.set(0, 2, 1D));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.setRow(0, 1D));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TwoWayTable.builder(0, 2));
+    }
+    
+    @Test
+    void shouldAgreeOnCachedResultsAcrossThreads() throws Exception {
+        // Given
+        var random = new Random(47L);
+        var array = new double[200][300];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextGaussian();
+            }
+        }
+        var table = TwoWayTable.copyOf(array);
+        var expected = new TwoWayTable(array).mediansOfColumns();
+        
+        // When
+        var results = IntStream.range(0, 8).parallel()
+                .mapToObj(i -> table.mediansOfColumns())
+                .toList();
+        
+        // Then
+        for (var result : results) {
+            assertArrayEquals(expected, result);
+        }
+    }
+    
+    @Test
+    void shouldReadTableWrittenToFile() throws IOException {
+        // Given
+        var random = new Random(53L);
+        var array = new double[300][50];
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = random.nextGaussian();
+            }
+        }
+        var table = new TwoWayTable(array);
+        var file = Files.createTempFile("table", ".bin");
+        try {
+            table.writeTo(file);
+            
+            // When
+            var read = TwoWayTable.read(file);
+            
+            // Then
+            assertTrue(read.isImmutable());
+            assertEquals(table, read);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldReadCsvFile() throws IOException {
+        // Given
+        var random = new Random(59L);
+        var array = new double[2000][7];
+        var text = new StringBuilder("a,b,c,d,e,f,g\n");
+        for (var row : array) {
+            for (var column = 0; column < row.length; ++column) {
+                row[column] = column % 2 == 0 ? random.nextGaussian() : random.nextInt(1000) / 100D;
+                text.append(column == 0 ? "" : ",").append(row[column]);
+            }
+            text.append("\r\n");
+        }
+        var file = Files.createTempFile("table", ".csv");
+        try {
+            Files.writeString(file, text);
+            
+            // When
+            var table = TwoWayTable.readDelimited(file, ',', 1);
+            
+            // Then
+            assertEquals(new TwoWayTable(array), table);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldReadTsvFileWithQuotesAndMissingValues() throws IOException {
+        // Given
+        var file = Files.createTempFile("table", ".tsv");
+        try {
+            Files.writeString(file, "1\t\"2.5\"\t-3e2\n\n 4 \t\tNaN\n");
+            
+            // When
+            var table = TwoWayTable.readTsv(file);
+            
+            // Then
+            assertArrayEquals(new double[] {1D, 2.5D, -300D}, table.row(0));
+            assertArrayEquals(new double[] {4D, Double.NaN, Double.NaN}, table.row(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldNotReadCsvFileWithRaggedOrNonNumericRecords() throws IOException {
+        // Given
+        var file = Files.createTempFile("table", ".csv");
+        try {
+            Files.writeString(file, "1,2,3\n4,5\n");
+            Assertions.assertThrows(IOException.class, () -> TwoWayTable.readCsv(file));
+            Files.writeString(file, "1,2,3\n4,5,x\n");
+            Assertions.assertThrows(IOException.class, () -> TwoWayTable.readCsv(file));
+            Files.writeString(file, "\n");
+            Assertions.assertThrows(IOException.class, () -> TwoWayTable.readCsv(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    void shouldApplyNaNPolicyToMedians() {
+        // Given
+        double[][] array = {{1D, Double.NaN, 3D}, {4D, 5D, 6D}, {7D, 8D, Double.NaN}};
+        for (var table : new TwoWayTable[] {new TwoWayTable(array), TwoWayTable.copyOf(array)}) {
+            
+            // Then
+            assertArrayEquals(new double[] {Double.NaN, 5D, Double.NaN}, table.mediansOfRows());
+            assertArrayEquals(new double[] {4D, Double.NaN, Double.NaN}, table.mediansOfColumns());
+            assertArrayEquals(new double[] {2D, 5D, 7.5D}, table.mediansOfRows(NaNPolicy.SKIP));
+            assertArrayEquals(new double[] {4D, 6.5D, 4.5D}, table.mediansOfColumns(NaNPolicy.SKIP));
+            assertArrayEquals(new double[] {2D, 5D, 7.5D}, table.parallelMediansOfRows(NaNPolicy.SKIP));
+            assertEquals(6.5D, table.medianOfColumn(1, NaNPolicy.SKIP));
+            assertEquals(5D, table.medianOfRow(1, NaNPolicy.FAIL));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> table.medianOfRow(0, NaNPolicy.FAIL));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> table.mediansOfColumns(NaNPolicy.FAIL));
+        }
+    }
+
+    @Test
+    void shouldRejectCellOutsideTableInJaggedLayout() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, 5D, 6D}};
+        var table = new TwoWayTable(array);
+        
+        // Then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(2, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1, 2));
+    }
+
+    @Test
+    void shouldRejectCellOutsideTableInRowMajorLayout() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, 5D, 6D}};
+        var table = new TwoWayTable(array, TwoWayTable.Layout.ROW_MAJOR);
+        
+        // Then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(2, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1, 2));
+    }
+
+    @Test
+    void shouldRejectCellOutsideTableInColumnMajorLayout() {
+        // Given
+        double[][] array = {{1D, 2D, 3D}, {4D, 5D, 6D}};
+        var table = new TwoWayTable(array, TwoWayTable.Layout.COLUMN_MAJOR);
+        
+        // Then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(2, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> table.get(-1, 2));
+    }
 }
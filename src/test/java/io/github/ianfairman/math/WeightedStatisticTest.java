@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Ian Fairman <ian.fairman@gmail.com>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.ianfairman.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Ian Fairman <ian.fairman@gmail.com>
+ */
+public class WeightedStatisticTest {
+
+    private static final double[] PS = {0D, 0.05D, 0.25D, 0.5D, 0.75D, 0.9D, 0.999D, 1D};
+
+    @Test
+    void shouldAgreeWithStatisticForEqualWeights() {
+        // Given
+        var random = new Random(97L);
+        var values = new double[501];
+        for (var i = 0; i < values.length; ++i) {
+            values[i] = random.nextGaussian();
+        }
+        var weights = new double[values.length];
+        Arrays.fill(weights, 1D);
+        
+        // Then
+        assertEquals(Statistic.arithmeticMean(values), WeightedStatistic.arithmeticMean(values, weights), 1E-12);
+        assertEquals(Statistic.populationVariance(values),
+                WeightedStatistic.populationVariance(values, weights), 1E-12);
+        assertEquals(Statistic.sampleStandardDeviation(values),
+                WeightedStatistic.sampleStandardDeviation(values, weights), 1E-12);
+        assertEquals(Statistic.median(values), WeightedStatistic.median(values, weights));
+        assertArrayEquals(Statistic.quantiles(values, PS), WeightedStatistic.quantiles(values, weights, PS));
+    }
+    
+    @Test
+    void shouldAgreeWithExpandedSampleForWholeNumberWeights() {
+        // Given
+        var random = new Random(101L);
+        for (var trial = 0; trial < 50; ++trial) {
+            var values = new double[1 + random.nextInt(300)];
+            var weights = new double[values.length];
+            var expanded = new double[0];
+            for (var i = 0; i < values.length; ++i) {
+                values[i] = random.nextInt(50) - 20;
+                weights[i] = random.nextInt(6);
+                var from = expanded.length;
+                expanded = Arrays.copyOf(expanded, from + (int) weights[i]);
+                Arrays.fill(expanded, from, expanded.length, values[i]);
+            }
+            if (expanded.length < 2) {
+                continue;
+            }
+            
+            // Then
+            assertEquals(Statistic.arithmeticMean(expanded), WeightedStatistic.arithmeticMean(values, weights), 1E-9);
+            assertEquals(Statistic.populationVariance(expanded),
+                    WeightedStatistic.populationVariance(values, weights), 1E-9);
+            assertEquals(Statistic.sampleVariance(expanded), WeightedStatistic.sampleVariance(values, weights), 1E-9);
+            assertEquals(Statistic.median(expanded), WeightedStatistic.median(values, weights));
+            assertArrayEquals(Statistic.quantiles(expanded, PS), WeightedStatistic.quantiles(values, weights, PS),
+                    1E-12);
+        }
+    }
+    
+    @Test
+    void shouldUseSliceOfValuesAndWeights() {
+        // Given
+        double[] values = {100D, 1D, 2D, 3D, 100D};
+        double[] weights = {5D, 1D, 2D, 1D, 5D};
+        
+        // Then
+        assertEquals(2D, WeightedStatistic.arithmeticMean(values, weights, 1, 3));
+        assertEquals(2D, WeightedStatistic.median(values, weights, 1, 3));
+        assertEquals(2D / 3D, WeightedStatistic.sampleVariance(values, weights, 1, 3), 1E-15);
+    }
+    
+    @Test
+    void shouldIgnoreValuesWithZeroWeight() {
+        // Given
+        double[] values = {Double.NaN, 1D, Double.POSITIVE_INFINITY, 3D};
+        double[] weights = {0D, 1D, 0D, 1D};
+        
+        // Then
+        assertEquals(2D, WeightedStatistic.arithmeticMean(values, weights));
+        assertEquals(2D, WeightedStatistic.median(values, weights));
+        assertEquals(1D, WeightedStatistic.populationVariance(values, weights));
+    }
+    
+    @Test
+    void shouldReturnNaNForWeightedNaNOrNoWeight() {
+        // Then
+        assertTrue(Double.isNaN(WeightedStatistic.median(new double[] {1D, Double.NaN}, new double[] {1D, 1D})));
+        assertTrue(Double.isNaN(WeightedStatistic.median(new double[] {1D, 2D}, new double[] {0D, 0D})));
+        assertTrue(Double.isNaN(WeightedStatistic.arithmeticMean(new double[] {1D, 2D}, new double[] {0D, 0D})));
+    }
+    
+    @Test
+    void shouldRejectInvalidWeights() {
+        // Then
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightedStatistic.arithmeticMean(new double[] {1D, 2D}, new double[] {1D}));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightedStatistic.median(new double[] {1D, 2D}, new double[] {1D, -1D}));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightedStatistic.sampleVariance(new double[] {1D, 2D}, new double[] {1D, Double.NaN}));
+        assertThrows(IllegalArgumentException.class,
+                () -> WeightedStatistic.quantile(new double[] {1D, 2D}, new double[] {1D, 1D}, 1.5D));
+    }
+}